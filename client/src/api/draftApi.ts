@@ -7,6 +7,12 @@ import type { Team, Player, Match } from '../types';
 // 백엔드 주소 (CORS 설정해둔 곳)
 const API_BASE_URL = '/api/draft';
 
+// ✨ 드래프트 보드 한 번에 가져오기 (팀별 로스터 + 대기 명단)
+export const fetchDraftBoard = async (): Promise<{ teams: Team[]; standby: Player[] }> => {
+    const response = await axios.get<{ teams: Team[]; standby: Player[] }>(`${API_BASE_URL}/board`);
+    return response.data;
+};
+
 // 팀 목록 가져오기
 export const fetchTeams = async (): Promise<Team[]> => {
     const response = await axios.get<Team[]>(`${API_BASE_URL}/teams`);
@@ -33,11 +39,23 @@ export const saveAllDraftState = async (requests: { playerId: number; teamId: nu
     await axios.post(`${API_BASE_URL}/assign/all`, requests);
 };
 
+// 자동 밸런스 제안 받기 (서버에서 budgetMillis 동안 탐색, 저장은 saveAllDraftState로 따로)
+export const proposeBalancedDraft = async (budgetMillis = 2000): Promise<{ playerId: number; teamId: number | null }[]> => {
+    const response = await axios.post(`${API_BASE_URL}/balance`, null, { params: { budgetMillis } });
+    return response.data;
+};
+
 export const fetchMatches = async (): Promise<Match[]> => {
     const response = await axios.get<Match[]>(`/api/matches`);
     return response.data;
 };
 
+// 경기 상세 기록 (선수별 스탯, 오브젝트, 밴) - 상세 모달 열 때만 호출
+export const fetchMatchDetail = async (id: number): Promise<Match> => {
+    const response = await axios.get<Match>(`/api/matches/${id}/details`);
+    return response.data;
+};
+
 export const createMatch = async (data: { stage: string; blueTeamId: number; redTeamId: number }) => {
     await axios.post(`/api/matches`, data);
 };
@@ -59,4 +77,24 @@ export const updateMatchTeams = async (matchId: number, blueTeamId: number | nul
 
     // 👇 여기가 수정된 부분입니다 (http://localhost:8080/api 직접 입력)
     await axios.patch(`/api/matches/${matchId}/teams`, payload);
-};
\ No newline at end of file
+};
+// ✨ 대진표 / 경기 결과 실시간 알림 구독 (SSE)
+// 한 번의 저장에서 이벤트가 여러 개(승리 + 진출) 오므로 잠깐 모았다가 onChange 한 번만 호출
+// 반환값은 구독 해제 함수 (useEffect cleanup 에서 호출)
+const TOURNAMENT_EVENT_TYPES = ['MATCH_ADVANCED', 'WINNER_SET', 'TEAM_PLACED', 'MATCH_LOADED', 'MATCH_CREATED', 'MATCH_DELETED', 'BRACKET_RESET'];
+
+export const subscribeTournamentEvents = (onChange: () => void): (() => void) => {
+    const source = new EventSource('/api/tournament/stream');
+    let timer: ReturnType<typeof setTimeout> | null = null;
+
+    const handler = () => {
+        if (timer) clearTimeout(timer);
+        timer = setTimeout(onChange, 200);
+    };
+    TOURNAMENT_EVENT_TYPES.forEach(type => source.addEventListener(type, handler));
+
+    return () => {
+        if (timer) clearTimeout(timer);
+        source.close();
+    };
+};
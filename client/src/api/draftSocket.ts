@@ -0,0 +1,54 @@
+// client/src/api/draftSocket.ts
+
+// 드래프트 보드 실시간 공동 편집 (WebSocket /ws/draft)
+// 서버 메시지
+//  - HELLO    { version }                              접속 직후 현재 보드 버전
+//  - MOVED    { version, playerId, fromTeamId, teamId } 누군가 선수를 옮김 (teamId null → 대기 명단)
+//  - REJECTED { version, playerId, reason }            내 이동이 거절됨 (다른 사람이 먼저 옮김 등)
+//  - RESYNC   { version }                              일괄 저장 등으로 보드 전체가 바뀜 → 다시 불러오기
+
+export type DraftSocketMessage =
+    | { type: 'HELLO'; version: number }
+    | { type: 'MOVED'; version: number; playerId: number; fromTeamId: number | null; teamId: number | null }
+    | { type: 'REJECTED'; version: number; playerId: number; reason: string }
+    | { type: 'RESYNC'; version: number };
+
+export interface DraftSocket {
+    // 내가 마지막으로 본 보드 버전 기준으로 이동 요청
+    move: (playerId: number, teamId: number | null) => void;
+    close: () => void;
+}
+
+const RECONNECT_DELAY_MS = 2000;
+
+export const connectDraftSocket = (onMessage: (message: DraftSocketMessage) => void): DraftSocket => {
+    const url = `${window.location.protocol === 'https:' ? 'wss' : 'ws'}://${window.location.host}/ws/draft`;
+    let socket: WebSocket;
+    let version = 0;
+    let closed = false;
+
+    const open = () => {
+        socket = new WebSocket(url);
+        socket.onmessage = (e) => {
+            const message = JSON.parse(e.data) as DraftSocketMessage;
+            version = message.version;
+            onMessage(message);
+        };
+        // 끊기면 잠시 후 재접속 (재접속하면 HELLO 받고 화면에서 다시 불러옴)
+        socket.onclose = () => {
+            if (!closed) setTimeout(open, RECONNECT_DELAY_MS);
+        };
+    };
+    open();
+
+    return {
+        move: (playerId, teamId) => {
+            if (socket.readyState !== WebSocket.OPEN) return;
+            socket.send(JSON.stringify({ type: 'MOVE', playerId, teamId, baseVersion: version }));
+        },
+        close: () => {
+            closed = true;
+            socket.close();
+        },
+    };
+};
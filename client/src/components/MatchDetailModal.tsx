@@ -1,6 +1,7 @@
-import { useEffect } from 'react';
+import { useEffect, useState } from 'react';
 import type { Match, MatchDetail } from '../types';
 import { getChampImg, getItemImg, getSpellImg } from '../utils/imageUtils';
+import { fetchMatchDetail } from '../api/draftApi';
 
 interface Props {
     match: Match;
@@ -30,7 +31,16 @@ const getTierColor = (tier: string) => {
     return "text-gray-400"; // Unranked
 };
 
-export default function MatchDetailModal({ match, onClose }: Props) {
+export default function MatchDetailModal({ match: summary, onClose }: Props) {
+    // 목록에는 요약 정보만 있으므로, 모달이 열릴 때 선수별 상세 기록을 따로 불러옴
+    const [match, setMatch] = useState<Match>(summary);
+
+    useEffect(() => {
+        fetchMatchDetail(summary.id)
+            .then(setMatch)
+            .catch(e => console.error("상세 기록 로딩 실패", e));
+    }, [summary.id]);
+
     const blueTeam = match.matchDetails?.filter(d => d.side === 'BLUE') || [];
     const redTeam = match.matchDetails?.filter(d => d.side === 'RED') || [];
 
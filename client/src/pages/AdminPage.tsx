@@ -6,6 +6,16 @@ import { useNavigate } from 'react-router-dom';
 import type { Player, Team } from '../types';
 
 const ADMIN_API = '/api/admin';
+const PAGE_SIZE = 50;
+
+// 서버에서 받는 선수 목록 한 페이지
+interface PlayerPage {
+    content: Player[];
+    page: number;
+    size: number;
+    totalElements: number;
+    totalPages: number;
+}
 
 // ✨ 티어 목록 상수 (재사용을 위해 정의)
 const TIER_OPTIONS = [
@@ -55,6 +65,11 @@ export default function AdminPage() {
     const [players, setPlayers] = useState<Player[]>([]);
     const [teams, setTeams] = useState<Team[]>([]);
 
+    // 선수 목록 검색/정렬/페이지 (서버에서 처리)
+    const [playerFilter, setPlayerFilter] = useState({ position: '', standby: '', sort: 'id' });
+    const [page, setPage] = useState(0);
+    const [pageInfo, setPageInfo] = useState({ totalPages: 0, totalElements: 0 });
+
     // ✨ [수정] formData에 highestTier 추가
     const [formData, setFormData] = useState({
         name: '',
@@ -72,10 +87,14 @@ export default function AdminPage() {
         } else {
             setIsLoading(false);
             fetchTeams();
-            fetchData();
         }
     }, [navigate]);
 
+    // 검색 조건이나 페이지가 바뀌면 다시 불러오기
+    useEffect(() => {
+        if (!isLoading) fetchData();
+    }, [isLoading, page, playerFilter]);
+
     const fetchTeams = async () => {
         try {
             const res = await axios.get('/api/teams');
@@ -89,11 +108,20 @@ export default function AdminPage() {
 
     const fetchData = async () => {
         try {
-            const pRes = await axios.get<Player[]>(`${ADMIN_API}/players`);
+            const pRes = await axios.get<PlayerPage>(`${ADMIN_API}/players`, {
+                params: {
+                    position: playerFilter.position || undefined,
+                    standby: playerFilter.standby || undefined,
+                    sort: playerFilter.sort,
+                    page,
+                    size: PAGE_SIZE,
+                },
+            });
             const tRes = await axios.get<Team[]>(`${ADMIN_API}/teams`);
 
             // 배열 확인 안전장치 유지
-            setPlayers(Array.isArray(pRes.data) ? pRes.data : []);
+            setPlayers(Array.isArray(pRes.data?.content) ? pRes.data.content : []);
+            setPageInfo({ totalPages: pRes.data?.totalPages ?? 0, totalElements: pRes.data?.totalElements ?? 0 });
             setTeams(Array.isArray(tRes.data) ? tRes.data : []);
         } catch (e) {
             console.error("데이터 로드 실패");
@@ -323,6 +351,51 @@ export default function AdminPage() {
             </div>
 
             {/* 4. 선수 목록 테이블 */}
+            <div className="flex items-center gap-3 mb-3 text-sm">
+                <select
+                    className="border p-2 rounded"
+                    value={playerFilter.sort}
+                    onChange={e => { setPage(0); setPlayerFilter({ ...playerFilter, sort: e.target.value }); }}
+                >
+                    <option value="id">등록순</option>
+                    <option value="tier,desc">티어 높은 순</option>
+                    <option value="tier,asc">티어 낮은 순</option>
+                    <option value="name">이름순</option>
+                </select>
+                <select
+                    className="border p-2 rounded"
+                    value={playerFilter.position}
+                    onChange={e => { setPage(0); setPlayerFilter({ ...playerFilter, position: e.target.value }); }}
+                >
+                    <option value="">전체 포지션</option>
+                    {['TOP', 'JUG', 'MID', 'ADC', 'SUP'].map(p => <option key={p}>{p}</option>)}
+                </select>
+                <select
+                    className="border p-2 rounded"
+                    value={playerFilter.standby}
+                    onChange={e => { setPage(0); setPlayerFilter({ ...playerFilter, standby: e.target.value }); }}
+                >
+                    <option value="">전체 선수</option>
+                    <option value="true">대기 명단만</option>
+                    <option value="false">팀 소속만</option>
+                </select>
+                <span className="text-gray-500 ml-auto">총 {pageInfo.totalElements}명</span>
+                <button
+                    disabled={page === 0}
+                    onClick={() => setPage(page - 1)}
+                    className="border px-2 py-1 rounded disabled:opacity-40"
+                >
+                    이전
+                </button>
+                <span>{pageInfo.totalPages === 0 ? 0 : page + 1} / {pageInfo.totalPages}</span>
+                <button
+                    disabled={page + 1 >= pageInfo.totalPages}
+                    onClick={() => setPage(page + 1)}
+                    className="border px-2 py-1 rounded disabled:opacity-40"
+                >
+                    다음
+                </button>
+            </div>
             <div className="overflow-x-auto">
                 <table className="w-full bg-white border shadow-sm text-sm">
                     <thead className="bg-gray-100">
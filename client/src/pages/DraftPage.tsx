@@ -1,4 +1,4 @@
-import { useEffect, useState } from 'react';
+import { useEffect, useRef, useState } from 'react';
 import {
     DndContext,
     type DragEndEvent,
@@ -10,7 +10,8 @@ import {
 import { arrayMove } from '@dnd-kit/sortable';
 import { Link } from 'react-router-dom';
 import type { Team, Player } from '../types';
-import { fetchTeams, fetchStandbyPlayers, assignPlayerToTeam, saveAllDraftState } from '../api/draftApi';
+import { fetchDraftBoard, assignPlayerToTeam, saveAllDraftState, proposeBalancedDraft } from '../api/draftApi';
+import { connectDraftSocket, type DraftSocket } from '../api/draftSocket';
 import { DraggablePlayer } from '../components/DraggablePlayer';
 import { DroppableTeam } from '../components/DroppableTeam';
 import { PlayerCard } from '../components/PlayerCard';
@@ -22,25 +23,77 @@ export default function DraftPage() {
     const [activePlayer, setActivePlayer] = useState<Player | null>(null);
     const [isAdmin, setIsAdmin] = useState(false);
 
+    // 실시간 반영 시 두 state를 같이 고쳐야 해서 최신 값을 ref로도 들고 있음
+    const boardRef = useRef({ teams, standbyPlayers });
+    boardRef.current = { teams, standbyPlayers };
+    const socketRef = useRef<DraftSocket | null>(null);
+
     // 1. 초기 데이터 로드
+    const loadData = async () => {
+        try {
+            const board = await fetchDraftBoard();
+            setTeams(board.teams);
+            setStandbyPlayers(board.standby);
+
+            // ✨ [로직 수정] 'isAdmin' 문자열 대신 'token' 존재 여부로 관리자 판별
+            const token = localStorage.getItem('token');
+            setIsAdmin(!!token);
+        } catch (error) {
+            console.error("데이터 로드 실패", error);
+        }
+    };
+
     useEffect(() => {
-        const loadData = async () => {
-            try {
-                const teamData = await fetchTeams();
-                const playerData = await fetchStandbyPlayers();
-                setTeams(teamData);
-                setStandbyPlayers(playerData);
-
-                // ✨ [로직 수정] 'isAdmin' 문자열 대신 'token' 존재 여부로 관리자 판별
-                const token = localStorage.getItem('token');
-                setIsAdmin(!!token);
-            } catch (error) {
-                console.error("데이터 로드 실패", error);
-            }
-        };
         loadData();
     }, []);
 
+    // ✨ 다른 사람이 옮긴 선수 반영 (내 이동이 되돌아온 경우에도 같은 결과라 그대로 적용)
+    const applyMove = (playerId: number, teamId: number | null) => {
+        const { teams: curTeams, standbyPlayers: curStandby } = boardRef.current;
+        const player = curStandby.find(p => p.id === playerId)
+            ?? curTeams.flatMap(t => t.players).find(p => p.id === playerId);
+        if (!player) {
+            loadData(); // 모르는 선수 → 전체 다시 불러오기
+            return;
+        }
+
+        const moved = { ...player, teamId };
+        const nextTeams = curTeams.map(t => {
+            if (t.id === teamId) {
+                return t.players.some(p => p.id === playerId) ? t : { ...t, players: [...t.players, moved] };
+            }
+            return { ...t, players: t.players.filter(p => p.id !== playerId) };
+        });
+        const nextStandby = teamId === null
+            ? (curStandby.some(p => p.id === playerId) ? curStandby : [...curStandby, moved])
+            : curStandby.filter(p => p.id !== playerId);
+
+        boardRef.current = { teams: nextTeams, standbyPlayers: nextStandby };
+        setTeams(nextTeams);
+        setStandbyPlayers(nextStandby);
+    };
+
+    // ✨ 실시간 공동 편집 연결
+    useEffect(() => {
+        const socket = connectDraftSocket((message) => {
+            switch (message.type) {
+                case 'MOVED':
+                    applyMove(message.playerId, message.teamId);
+                    break;
+                case 'REJECTED':
+                    console.warn("이동 거절:", message.reason);
+                    loadData();
+                    break;
+                case 'HELLO':
+                case 'RESYNC':
+                    loadData();
+                    break;
+            }
+        });
+        socketRef.current = socket;
+        return () => socket.close();
+    }, []);
+
     const handleDragStart = (event: DragStartEvent) => {
         const { active } = event;
         if (active.data.current && active.data.current.player) {
@@ -133,6 +186,7 @@ export default function DraftPage() {
             setTeams(prev => prev.map(t => ({...t, players: t.players.filter(p => p.id !== playerId)})));
             // 대기 명단 추가
             setStandbyPlayers(prev => [...prev, { ...targetPlayer!, teamId: null }]);
+            if (isAdmin) socketRef.current?.move(playerId, null); // 바로 저장 + 다른 화면에 전파
             return;
         }
 
@@ -166,6 +220,7 @@ export default function DraftPage() {
                 }
                 return t;
             }));
+            if (isAdmin) socketRef.current?.move(playerId, targetTeamId);
         }
     };
 
@@ -185,16 +240,31 @@ export default function DraftPage() {
             alert("✅ 모든 팀 배치가 서버에 안전하게 저장되었습니다!");
 
             // 데이터 재로딩
-            const teamData = await fetchTeams();
-            const playerData = await fetchStandbyPlayers();
-            setTeams(teamData);
-            setStandbyPlayers(playerData);
+            const board = await fetchDraftBoard();
+            setTeams(board.teams);
+            setStandbyPlayers(board.standby);
         } catch (error) {
             console.error(error);
             alert("❌ 저장 중 오류가 발생했습니다.");
         }
     };
 
+    // 티어/포지션 기준 자동 밸런스 → 확인 후 그대로 저장
+    const handleAutoBalance = async () => {
+        if (!confirm("티어와 포지션 기준으로 팀을 자동 편성합니다. 현재 배치는 덮어씁니다. 진행할까요?")) return;
+        try {
+            const proposal = await proposeBalancedDraft();
+            await saveAllDraftState(proposal);
+
+            const board = await fetchDraftBoard();
+            setTeams(board.teams);
+            setStandbyPlayers(board.standby);
+        } catch (error) {
+            console.error(error);
+            alert("❌ 자동 편성 중 오류가 발생했습니다.");
+        }
+    };
+
     return (
         <DndContext
             onDragEnd={handleDragEnd}
@@ -213,6 +283,11 @@ export default function DraftPage() {
                     </div>
                     <div className="flex items-center gap-4">
                         {/* ✨ [추가 3] isAdmin이 true일 때만 저장 버튼 표시 */}
+                        {isAdmin && (
+                            <button onClick={handleAutoBalance} className="bg-indigo-600 hover:bg-indigo-700 text-white font-bold py-2 px-6 rounded-full shadow text-sm">
+                                ⚖️ 자동 밸런스
+                            </button>
+                        )}
                         {isAdmin && (
                             <button onClick={handleSaveAll} className="bg-green-600 hover:bg-green-700 text-white font-bold py-2 px-6 rounded-full shadow transition-transform transform hover:scale-105 text-sm">
                                 💾 현재 상태 확정 저장
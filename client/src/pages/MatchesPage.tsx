@@ -2,7 +2,7 @@ import { useEffect, useState } from 'react';
 import { Link } from 'react-router-dom';
 import axios from 'axios';
 import type { Match, Team } from '../types';
-import { fetchMatches, deleteMatch, fetchTeams, updateMatchTeams } from '../api/draftApi'; // ✨ updateMatchTeams 추가
+import { fetchMatches, deleteMatch, fetchTeams, updateMatchTeams, subscribeTournamentEvents } from '../api/draftApi'; // ✨ updateMatchTeams 추가
 import MatchDetailModal from '../components/MatchDetailModal';
 
 export default function MatchesPage() {
@@ -38,6 +38,9 @@ export default function MatchesPage() {
         loadData();
     }, []);
 
+    // 다른 관리자가 결과를 입력하거나 경기를 불러오면 목록 다시 불러오기
+    useEffect(() => subscribeTournamentEvents(loadData), []);
+
     // --- [핸들러] 매치 삭제 ---
     const handleDelete = async (id: number) => {
         if(!confirm("정말 이 기록을 삭제하시겠습니까?")) return;
@@ -3,6 +3,7 @@ import axios from 'axios';
 // ✅ models.ts 경로 확인
 import type { MatchDto, Team } from '../types';
 import BracketMatchCard from '../components/BracketMatchCard';
+import { subscribeTournamentEvents } from '../api/draftApi';
 
 export default function TournamentPage() {
     const [matches, setMatches] = useState<MatchDto[]>([]);
@@ -30,16 +31,9 @@ export default function TournamentPage() {
 
     const fetchData = async () => {
         try {
-            const matchRes = await axios.get('/api/matches');
-
-            if (Array.isArray(matchRes.data)) {
-                const tournamentMatches = matchRes.data
-                    .filter((m: any) => m.round)
-                    .sort((a: any, b: any) => a.id - b.id);
-                setMatches(tournamentMatches);
-            } else {
-                setMatches([]);
-            }
+            // 서버에서 라운드별로 조립된 대진표 ({ "8": [...], "4": [...], "2": [...] })
+            const bracketRes = await axios.get('/api/tournament/bracket');
+            setMatches(bracketRes.data ? (Object.values(bracketRes.data) as MatchDto[][]).flat() : []);
 
             const teamRes = await axios.get('/api/teams');
             if (Array.isArray(teamRes.data)) {
@@ -53,6 +47,9 @@ export default function TournamentPage() {
 
     useEffect(() => { fetchData(); }, []);
 
+    // 실시간 반영: 결과 입력 / 진출 / 경기 불러오기 이벤트가 오면 대진표 다시 불러오기
+    useEffect(() => subscribeTournamentEvents(fetchData), []);
+
     const handleCreateEmpty = async () => {
         if (!window.confirm(`기존 대진표를 지우고 ${teamCount}강 빈 틀을 새로 만듭니까?`)) return;
         try {
@@ -68,9 +65,9 @@ export default function TournamentPage() {
         } catch (e) { alert("업데이트 실패"); }
     };
 
-    const round8 = matches.filter(m => m.round === 8);
-    const round4 = matches.filter(m => m.round === 4);
-    const final = matches.filter(m => m.round === 2);
+    // 라운드(64강 → … → 결승)별로 묶어서 왼쪽부터 표시
+    const rounds = Array.from(new Set(matches.map(m => m.round as number))).sort((a, b) => b - a);
+    const firstRound = rounds[0];
 
     return (
         <div className="p-8 min-h-screen bg-gray-50 overflow-x-auto">
@@ -86,8 +83,7 @@ export default function TournamentPage() {
                             onChange={(e) => setTeamCount(Number(e.target.value))}
                             className="border p-1 rounded"
                         >
-                            <option value={4}>4강</option>
-                            <option value={8}>8강</option>
+                            {[4, 8, 16, 32, 64].map(n => <option key={n} value={n}>{n}강</option>)}
                         </select>
                         <button
                             onClick={handleCreateEmpty}
@@ -100,60 +96,25 @@ export default function TournamentPage() {
             </div>
 
             <div className="flex gap-16 justify-center min-w-[1000px]">
-                {/* 8강 */}
-                {round8.length > 0 && (
-                    <div className="flex flex-col gap-8 justify-center">
-                        {round8.map((m, idx) => (
+                {rounds.map(round => (
+                    <div key={round} className="flex flex-col justify-around gap-8">
+                        {matches.filter(m => m.round === round).map(m => (
                             <div key={m.id} className="relative flex items-center">
-                                <BracketMatchCard
-                                    match={m}
-                                    isAdmin={isAdmin} // 여기서 false가 넘어가면 카드 내부 수정 기능이 잠깁니다
-                                    teams={teams}
-                                    onUpdate={handleUpdate}
-                                    isFirstRound={true}
-                                />
-                                <div className="absolute -right-8 w-8 h-px bg-gray-400"></div>
-                                {idx % 2 === 0 && <div className="absolute -right-8 w-px bg-gray-400 h-[calc(100%+2rem)] top-1/2 translate-y-px"></div>}
+                                {round !== firstRound && <div className="absolute -left-8 w-8 h-px bg-gray-400"></div>}
+                                <div className={round === 2 ? "scale-110 border-2 border-yellow-400 rounded p-1" : ""}>
+                                    <BracketMatchCard
+                                        match={m}
+                                        isAdmin={isAdmin} // 여기서 false가 넘어가면 카드 내부 수정 기능이 잠깁니다
+                                        teams={teams}
+                                        onUpdate={handleUpdate}
+                                        isFirstRound={round === firstRound}
+                                    />
+                                </div>
+                                {round !== 2 && <div className="absolute -right-8 w-8 h-px bg-gray-400"></div>}
                             </div>
                         ))}
                     </div>
-                )}
-
-                {/* 4강 */}
-                <div className="flex flex-col gap-24 justify-center">
-                    {round4.map((m, idx) => (
-                        <div key={m.id} className="relative flex items-center">
-                            <div className="absolute -left-8 w-8 h-px bg-gray-400"></div>
-                            <BracketMatchCard
-                                match={m}
-                                isAdmin={isAdmin}
-                                teams={teams}
-                                onUpdate={handleUpdate}
-                                isFirstRound={round8.length === 0}
-                            />
-                            <div className="absolute -right-8 w-8 h-px bg-gray-400"></div>
-                            {idx % 2 === 0 && <div className="absolute -right-8 w-px bg-gray-400 h-[calc(100%+6rem)] top-1/2 translate-y-px"></div>}
-                        </div>
-                    ))}
-                </div>
-
-                {/* 결승 */}
-                <div className="flex flex-col justify-center">
-                    {final.map(m => (
-                        <div key={m.id} className="relative flex items-center">
-                            <div className="absolute -left-8 w-8 h-px bg-gray-400"></div>
-                            <div className="scale-110 border-2 border-yellow-400 rounded p-1">
-                                <BracketMatchCard
-                                    match={m}
-                                    isAdmin={isAdmin}
-                                    teams={teams}
-                                    onUpdate={handleUpdate}
-                                    isFirstRound={false}
-                                />
-                            </div>
-                        </div>
-                    ))}
-                </div>
+                ))}
             </div>
         </div>
     );
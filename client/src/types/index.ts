@@ -5,6 +5,7 @@ export interface Player {
     position: string;
     tier: string;
     highestTier?: string;
+    tierOrdinal?: number; // 티어 정렬용 서열 (서버 계산, 언랭 0 ~ 챌린저 31)
     teamId: number | null;
 }
 
@@ -0,0 +1,28 @@
+// src/main/java/vierasionGameSite/ESCCUP/component/AfterCommit.java
+
+package vierasionGameSite.ESCCUP.component;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 커밋 후 실행 (메모리 캐시 갱신, 실시간 알림, ETag 버전 증가 등)
+// - 트랜잭션 안이면 커밋된 뒤에만 실행 (롤백되면 실행 안 함 → 커밋 전 데이터가 밖으로 새지 않음)
+// - 트랜잭션 밖이면 바로 실행
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+// src/main/java/vierasionGameSite/ESCCUP/component/JsonResponseCache.java
+
+package vierasionGameSite.ESCCUP.component;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 자주 조회되는 공개 API 응답을 JSON 바이트 그대로 보관하는 캐시
+// - 항목은 ETag(ResourceVersions)와 묶여 있어서 쓰기가 커밋되면 다음 조회에서 자동으로 다시 만듦
+// - 같은 버전을 동시에 여러 요청이 놓치면 한 요청만 DB 조회 + 직렬화하고 나머지는 그 결과를 기다림 (single-flight)
+@Component
+@RequiredArgsConstructor
+public class JsonResponseCache {
+
+    // Spring이 HTTP 응답 변환에 쓰는 매퍼와 같은 것 (캐시 응답과 일반 응답의 JSON 형태가 같도록)
+    private final JsonMapper jsonMapper;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(String etag, CompletableFuture<byte[]> body) {}
+
+    public byte[] get(String key, String etag, Supplier<?> loader) {
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.etag().equals(etag)) {
+            Entry fresh = new Entry(etag, new CompletableFuture<>());
+            entry = entries.compute(key, (k, old) -> (old != null && old.etag().equals(etag)) ? old : fresh);
+
+            // 내가 등록한 항목일 때만 직접 만듦
+            if (entry == fresh) {
+                try {
+                    fresh.body().complete(jsonMapper.writeValueAsBytes(loader.get()));
+                } catch (RuntimeException e) {
+                    entries.remove(key, fresh); // 실패는 캐시하지 않음 (다음 요청이 다시 시도)
+                    fresh.body().completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+
+        try {
+            return entry.body().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    public void evict(String key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+}
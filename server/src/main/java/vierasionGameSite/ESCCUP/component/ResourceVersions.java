@@ -0,0 +1,57 @@
+// src/main/java/vierasionGameSite/ESCCUP/component/ResourceVersions.java
+
+package vierasionGameSite.ESCCUP.component;
+
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 리소스 묶음별 버전 카운터 (조건부 GET용 ETag)
+// - 쓰기 경로에서 bump() → 커밋된 뒤에 버전 증가
+// - 조회 API는 etag()를 If-None-Match와 비교해서 같으면 DB 조회 없이 304 응답
+@Component
+public class ResourceVersions {
+
+    public enum Family {
+        MATCHES, // 경기 / 대진표
+        TEAMS,   // 팀 이름, 순서
+        PLAYERS  // 선수 정보, 팀 배정
+    }
+
+    // 서버 재시작 후 이전 프로세스의 ETag와 겹치지 않도록 시작 시각을 앞에 붙임
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Family, AtomicLong> versions = new EnumMap<>(Family.class);
+
+    public ResourceVersions() {
+        for (Family family : Family.values()) {
+            versions.put(family, new AtomicLong());
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후에, 아니면 바로 버전 증가
+    // (커밋 전에 올리면 옛 데이터가 새 ETag로 캐시될 수 있음)
+    public void bump(Family... families) {
+        AfterCommit.run(() -> increment(families));
+    }
+
+    public long version(Family family) {
+        return versions.get(family).get();
+    }
+
+    // 강한 ETag: "epoch-버전-버전..." (응답이 여러 묶음에 의존하면 모두 포함)
+    public String etag(Family... families) {
+        StringBuilder sb = new StringBuilder("\"").append(epoch);
+        for (Family family : families) {
+            sb.append('-').append(version(family));
+        }
+        return sb.append('"').toString();
+    }
+
+    private void increment(Family... families) {
+        for (Family family : families) {
+            versions.get(family).incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+// src/main/java/vierasionGameSite/ESCCUP/config/WebSocketConfig.java
+
+package vierasionGameSite.ESCCUP.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import vierasionGameSite.ESCCUP.controller.DraftSocketHandler;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final DraftSocketHandler draftSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(draftSocketHandler, "/ws/draft")
+                .setAllowedOrigins("http://localhost:5173", "http://localhost:3000"); // WebConfig CORS와 동일
+    }
+}
@@ -3,16 +3,29 @@ package vierasionGameSite.ESCCUP.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import vierasionGameSite.ESCCUP.component.ResourceVersions;
+import vierasionGameSite.ESCCUP.component.ResourceVersions.Family;
 import vierasionGameSite.ESCCUP.dto.PlayerDto;
+import vierasionGameSite.ESCCUP.dto.PlayerPageDto;
 import vierasionGameSite.ESCCUP.dto.TeamDto;
-import vierasionGameSite.ESCCUP.entity.Match;
 import vierasionGameSite.ESCCUP.entity.Player;
 import vierasionGameSite.ESCCUP.entity.Team;
 import vierasionGameSite.ESCCUP.repository.MatchRepository;
 import vierasionGameSite.ESCCUP.repository.PlayerRepository;
 import vierasionGameSite.ESCCUP.repository.TeamRepository;
+import vierasionGameSite.ESCCUP.service.BracketGraph;
+import vierasionGameSite.ESCCUP.service.DraftBoardHub;
+import vierasionGameSite.ESCCUP.service.GroupStageService;
+import vierasionGameSite.ESCCUP.service.MatchAnalyticsStore;
+import vierasionGameSite.ESCCUP.service.PickBanService;
+import vierasionGameSite.ESCCUP.service.PlayerNameIndex;
+import vierasionGameSite.ESCCUP.service.PlayerQueryService;
+import vierasionGameSite.ESCCUP.service.PlayerStatsService;
+import vierasionGameSite.ESCCUP.service.RiotApiService;
+import vierasionGameSite.ESCCUP.service.RiotRateLimiter;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -23,14 +36,34 @@ public class AdminController {
     private final PlayerRepository playerRepository;
     private final TeamRepository teamRepository;
     private final MatchRepository matchRepository;
+    private final RiotRateLimiter riotRateLimiter;
+    private final PlayerNameIndex playerNameIndex;
+    private final RiotApiService riotApiService;
+    private final ResourceVersions resourceVersions;
+    private final DraftBoardHub draftBoardHub;
+    private final PlayerStatsService playerStatsService;
+    private final MatchAnalyticsStore matchAnalyticsStore;
+    private final PickBanService pickBanService;
+    private final BracketGraph bracketGraph;
+    private final GroupStageService groupStageService;
+    private final PlayerQueryService playerQueryService;
 
     // --- [선수 관리 API] ---
 
+    // 선수 목록 (조건 검색 + 정렬 + 페이지)
+    // GET /api/admin/players?minTier=Emerald&maxTier=Diamond&position=MID&standby=true&sort=tier,desc&page=0&size=50
     @GetMapping("/players")
-    public List<PlayerDto> getAllPlayers() {
-        return playerRepository.findAll().stream()
-                .map(PlayerDto::new)
-                .collect(Collectors.toList());
+    public PlayerPageDto getAllPlayers(@RequestParam(required = false) String minTier,
+                                       @RequestParam(required = false) String maxTier,
+                                       @RequestParam(required = false) String position,
+                                       @RequestParam(required = false) Long teamId,
+                                       @RequestParam(required = false) Boolean standby,
+                                       @RequestParam(required = false) String q,
+                                       @RequestParam(defaultValue = "id") String sort,
+                                       @RequestParam(defaultValue = "0") int page,
+                                       @RequestParam(defaultValue = "50") int size) {
+        return playerQueryService.search(new PlayerQueryService.Filter(minTier, maxTier, position, teamId, standby, q),
+                sort, page, size);
     }
 
     @PostMapping("/players")
@@ -50,26 +83,43 @@ public class AdminController {
         }
 
         player.setTeam(null);
-        return new PlayerDto(playerRepository.save(player));
+        Player saved = playerRepository.save(player);
+        playerNameIndex.add(saved); // 경기 불러오기용 이름 색인 갱신
+        resourceVersions.bump(Family.PLAYERS);
+        draftBoardHub.resync();
+        return new PlayerDto(saved);
+    }
+
+    // 선수 이름 자동완성 (메모리 색인, 접두어 → 유사 이름 순)
+    // GET /api/admin/players/search?q=hide&limit=10
+    @GetMapping("/players/search")
+    public List<Map<String, Object>> searchPlayers(@RequestParam String q,
+                                                   @RequestParam(defaultValue = "10") int limit) {
+        return playerNameIndex.search(q, Math.max(1, Math.min(limit, 50)));
     }
 
     // 개별 선수 삭제
     @DeleteMapping("/players/{id}")
+    @Transactional
     public void deletePlayer(@PathVariable Long id) {
         playerRepository.deleteById(id);
+        playerStatsService.deletePlayer(id);
+        playerNameIndex.remove(id);
+        resourceVersions.bump(Family.PLAYERS, Family.MATCHES); // 경기 상세의 선수 연결도 바뀜
+        draftBoardHub.resync();
     }
 
     // 선수 전체 삭제 (안전 삭제)
+    // 엔티티를 불러오지 않고 UPDATE / DELETE 한 번씩 → 선수·경기 기록 수와 상관없이 일정한 비용
     @DeleteMapping("/players/all")
     @Transactional
     public void deleteAllPlayers() {
-        List<Team> teams = teamRepository.findAll();
-        for (Team team : teams) {
-            team.getPlayers().clear();
-        }
-        teamRepository.saveAll(teams);
-
-        playerRepository.deleteAll();
+        playerRepository.unlinkAllFromMatchDetails();
+        playerRepository.deleteAllInBatch();
+        playerStatsService.deleteAll();
+        playerNameIndex.clear();
+        resourceVersions.bump(Family.PLAYERS, Family.MATCHES);
+        draftBoardHub.resync();
     }
 
 
@@ -90,7 +140,10 @@ public class AdminController {
         Team team = new Team();
         team.setName("Team " + (count + 1));
         team.setDisplayOrder((int) count + 1);
-        return new TeamDto(teamRepository.save(team));
+        Team saved = teamRepository.save(team);
+        resourceVersions.bump(Family.TEAMS);
+        draftBoardHub.resync();
+        return new TeamDto(saved);
     }
 
     // 3. 팀 이름 수정하기
@@ -99,53 +152,84 @@ public class AdminController {
         Team team = teamRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("팀이 없습니다."));
         team.setName(dto.getName());
-        return new TeamDto(teamRepository.save(team));
+        Team saved = teamRepository.save(team);
+        matchAnalyticsStore.reloadAfterCommit(); // 통계 팀 이름 갱신
+        bracketGraph.reloadAfterCommit();
+        groupStageService.reloadAfterCommit();
+        resourceVersions.bump(Family.TEAMS);
+        draftBoardHub.resync();
+        return new TeamDto(saved);
     }
 
     // 4. 팀 삭제하기 (안전 삭제)
     @Transactional
     @DeleteMapping("/teams/{id}")
     public void deleteTeam(@PathVariable Long id) {
-        Team team = teamRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("팀이 없습니다."));
+        if (!teamRepository.existsById(id)) {
+            throw new IllegalArgumentException("팀이 없습니다.");
+        }
 
         // 1. 소속 선수 방출
-        for (Player player : team.getPlayers()) {
-            player.setTeam(null);
-        }
+        playerRepository.releaseFromTeam(id);
 
-        // 2. 경기 기록 연결 끊기
-        List<Match> matches = matchRepository.findAll();
-        for (Match match : matches) {
-            if (team.equals(match.getBlueTeam())) match.setBlueTeam(null);
-            if (team.equals(match.getRedTeam())) match.setRedTeam(null);
-            if (team.equals(match.getWinningTeam())) match.setWinningTeam(null);
-        }
-        matchRepository.saveAll(matches);
+        // 2. 경기 기록 연결 끊기 (전체 경기를 불러오지 않고 해당 컬럼만 UPDATE)
+        // 승리팀이 빠지면 이긴 진영 판단이 바뀔 수 있으므로 연결된 경기만 전적을 빼고 다시 더함
+        playerStatsService.reapplyAll(matchRepository.findIdsByTeam(id), () -> {
+            matchRepository.unlinkBlueTeam(id);
+            matchRepository.unlinkRedTeam(id);
+            matchRepository.unlinkWinningTeam(id);
+        });
 
         // 3. 팀 삭제
-        teamRepository.delete(team);
+        teamRepository.deleteAllByIdInBatch(List.of(id));
+        matchAnalyticsStore.reloadAfterCommit();
+        bracketGraph.reloadAfterCommit();
+        groupStageService.reloadAfterCommit();
+        pickBanService.reloadAfterCommit();
+        resourceVersions.bump(Family.TEAMS, Family.PLAYERS, Family.MATCHES);
+        draftBoardHub.resync();
     }
 
     // 5. 팀 전체 삭제
     @Transactional
     @DeleteMapping("/teams/all")
     public void deleteAllTeams() {
-        List<Match> matches = matchRepository.findAll();
-        for (Match match : matches) {
-            match.setBlueTeam(null);
-            match.setRedTeam(null);
-            match.setWinningTeam(null);
-        }
-        matchRepository.saveAll(matches);
+        playerStatsService.reapplyAll(matchRepository.findIdsWithAnyTeam(), matchRepository::unlinkAllTeams);
+        playerRepository.releaseAll();
+        teamRepository.deleteAllInBatch();
+        matchAnalyticsStore.reloadAfterCommit();
+        bracketGraph.reloadAfterCommit();
+        groupStageService.reloadAfterCommit();
+        pickBanService.reloadAfterCommit();
+        resourceVersions.bump(Family.TEAMS, Family.PLAYERS, Family.MATCHES);
+        draftBoardHub.resync();
+    }
 
-        List<Team> teams = teamRepository.findAll();
-        for (Team team : teams) {
-            for (Player player : team.getPlayers()) {
-                player.setTeam(null);
-            }
-        }
+    // --- [Riot API 모니터링] ---
+
+    // 속도 제한 범위별 남은 호출 수 / 차단 시간
+    @GetMapping("/riot/rate-limit")
+    public List<Map<String, Object>> getRiotRateLimit() {
+        return riotRateLimiter.snapshot();
+    }
+
+    // --- [통계] ---
+
+    // 선수 누적 전적 전체 재계산 (모든 경기 상세 기록 기준)
+    @PostMapping("/stats/rebuild")
+    public Map<String, Object> rebuildPlayerStats() {
+        return playerStatsService.rebuild();
+    }
+
+    // 기존 경기의 픽/밴을 정규화 테이블 + 색인으로 채우기 (아직 정리 안 된 경기만)
+    @PostMapping("/picks-bans/backfill")
+    public Map<String, Object> backfillPickBans() {
+        return pickBanService.backfill();
+    }
 
-        teamRepository.deleteAll();
+    // 보관된 Riot 원본 전체를 다시 파싱해서 기존 경기 기록 갱신 (새 파싱 필드 소급 적용)
+    @PostMapping("/riot/archive/reparse")
+    public Map<String, Object> reparseRiotArchive() {
+        return riotApiService.reparseArchive();
     }
 }
\ No newline at end of file
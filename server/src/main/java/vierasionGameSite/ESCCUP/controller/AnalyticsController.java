@@ -0,0 +1,56 @@
+// src/main/java/vierasionGameSite/ESCCUP/controller/AnalyticsController.java
+
+package vierasionGameSite.ESCCUP.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import vierasionGameSite.ESCCUP.service.MatchAnalyticsStore;
+import vierasionGameSite.ESCCUP.service.MatchAnalyticsStore.GroupBy;
+import vierasionGameSite.ESCCUP.service.PickBanService;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final MatchAnalyticsStore matchAnalyticsStore;
+    private final PickBanService pickBanService;
+
+    // 팀 / 진영별 승률, 평균 드래곤·바론·타워 (메모리 집계)
+    // 예) 블루 진영에서 이겼을 때 평균 드래곤: GET /api/analytics/objectives?groupBy=SIDE&side=BLUE&win=true
+    // 예) 8강 팀별 승률: GET /api/analytics/objectives?groupBy=TEAM&round=8
+    @GetMapping("/objectives")
+    public List<Map<String, Object>> getObjectives(@RequestParam(defaultValue = "TEAM") String groupBy,
+                                                   @RequestParam(required = false) String stage,
+                                                   @RequestParam(required = false) Integer round,
+                                                   @RequestParam(required = false) String side,
+                                                   @RequestParam(required = false) Boolean win) {
+        GroupBy parsedGroupBy;
+        try {
+            parsedGroupBy = GroupBy.valueOf(groupBy.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("groupBy는 TEAM 또는 SIDE 입니다: " + groupBy);
+        }
+        if (side != null && !"BLUE".equalsIgnoreCase(side) && !"RED".equalsIgnoreCase(side)) {
+            throw new IllegalArgumentException("side는 BLUE 또는 RED 입니다: " + side);
+        }
+        return matchAnalyticsStore.aggregate(parsedGroupBy, stage, round, side, win);
+    }
+
+    // 챔피언별 픽률 / 밴률 / 등장률 (등장률 높은 순)
+    // 예) 전체: GET /api/analytics/champions?limit=20
+    // 예) 특정 팀의 레드 진영 픽/밴: GET /api/analytics/champions?teamId=3&side=RED
+    @GetMapping("/champions")
+    public List<Map<String, Object>> getChampionRates(@RequestParam(required = false) Long teamId,
+                                                      @RequestParam(required = false) String stage,
+                                                      @RequestParam(required = false) String side,
+                                                      @RequestParam(defaultValue = "20") int limit) {
+        if (side != null && !"BLUE".equalsIgnoreCase(side) && !"RED".equalsIgnoreCase(side)) {
+            throw new IllegalArgumentException("side는 BLUE 또는 RED 입니다: " + side);
+        }
+        return pickBanService.rates(teamId, stage, side, Math.max(1, limit));
+    }
+}
@@ -4,8 +4,14 @@ package vierasionGameSite.ESCCUP.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import vierasionGameSite.ESCCUP.component.ResourceVersions;
+import vierasionGameSite.ESCCUP.component.ResourceVersions.Family;
+import vierasionGameSite.ESCCUP.dto.DraftBoardDto;
 import vierasionGameSite.ESCCUP.dto.PlayerDto;
 import vierasionGameSite.ESCCUP.dto.TeamDto;
+import vierasionGameSite.ESCCUP.service.DraftBalanceService;
+import vierasionGameSite.ESCCUP.service.DraftBoardHub;
 import vierasionGameSite.ESCCUP.service.DraftService;
 import vierasionGameSite.ESCCUP.dto.AssignRequest;
 
@@ -17,16 +23,35 @@ import java.util.List;
 public class DraftController {
 
     private final DraftService draftService;
+    private final ResourceVersions resourceVersions;
+    private final DraftBoardHub draftBoardHub;
+    private final DraftBalanceService draftBalanceService;
+
+    // 드래프트 화면 한 번에 불러오기 (팀별 로스터 + 대기 명단)
+    // GET http://localhost:8080/api/draft/board
+    @GetMapping("/board")
+    public DraftBoardDto getBoard(WebRequest request) {
+        if (request.checkNotModified(resourceVersions.etag(Family.TEAMS, Family.PLAYERS))) {
+            return null;
+        }
+        return draftService.getBoard();
+    }
 
     // GET http://localhost:8080/api/draft/teams
     @GetMapping("/teams")
-    public List<TeamDto> getTeams() {
+    public List<TeamDto> getTeams(WebRequest request) {
+        if (request.checkNotModified(resourceVersions.etag(Family.TEAMS, Family.PLAYERS))) {
+            return null; // 304 Not Modified
+        }
         return draftService.getAllTeams();
     }
 
     // GET http://localhost:8080/api/draft/standby
     @GetMapping("/standby")
-    public List<PlayerDto> getStandbyPlayers() {
+    public List<PlayerDto> getStandbyPlayers(WebRequest request) {
+        if (request.checkNotModified(resourceVersions.etag(Family.PLAYERS))) {
+            return null;
+        }
         return draftService.getStandbyPlayers();
     }
 
@@ -35,5 +60,14 @@ public class DraftController {
     @PostMapping("/assign/all")
     public void assignAllPlayers(@RequestBody List<AssignRequest> requests) {
         draftService.assignAllPlayers(requests);
+        draftBoardHub.resync(); // 실시간 편집 중인 화면들 다시 불러오기
+    }
+
+    // 자동 밸런스 제안 (티어 점수 + 포지션 기준, 저장은 하지 않음)
+    // 결과를 그대로 /assign/all 로 보내면 적용됨
+    // POST http://localhost:8080/api/draft/balance?budgetMillis=2000
+    @PostMapping("/balance")
+    public List<AssignRequest> proposeBalance(@RequestParam(defaultValue = "2000") long budgetMillis) {
+        return draftBalanceService.propose(budgetMillis);
     }
 }
\ No newline at end of file
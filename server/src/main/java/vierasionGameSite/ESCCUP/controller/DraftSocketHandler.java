@@ -0,0 +1,45 @@
+// src/main/java/vierasionGameSite/ESCCUP/controller/DraftSocketHandler.java
+
+package vierasionGameSite.ESCCUP.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import vierasionGameSite.ESCCUP.service.DraftBoardHub;
+
+// ws://localhost:8080/ws/draft
+// 받는 메시지: { "type": "MOVE", "playerId": 3, "teamId": 2, "baseVersion": 17 }  (teamId null → 대기 명단)
+// 보내는 메시지: HELLO / MOVED / REJECTED / RESYNC (DraftBoardHub 참고)
+@Component
+@RequiredArgsConstructor
+public class DraftSocketHandler extends TextWebSocketHandler {
+
+    private final DraftBoardHub draftBoardHub;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        draftBoardHub.join(session);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        JsonNode node = objectMapper.readTree(message.getPayload());
+        if (!"MOVE".equals(node.path("type").asText())) return;
+
+        Long playerId = node.hasNonNull("playerId") ? node.get("playerId").asLong() : null;
+        Long teamId = node.hasNonNull("teamId") ? node.get("teamId").asLong() : null;
+        long baseVersion = node.path("baseVersion").asLong(-1);
+        draftBoardHub.move(session, playerId, teamId, baseVersion);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        draftBoardHub.leave(session);
+    }
+}
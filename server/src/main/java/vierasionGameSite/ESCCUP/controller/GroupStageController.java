@@ -0,0 +1,97 @@
+package vierasionGameSite.ESCCUP.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import vierasionGameSite.ESCCUP.component.ResourceVersions;
+import vierasionGameSite.ESCCUP.component.ResourceVersions.Family;
+import vierasionGameSite.ESCCUP.dto.GroupStandingDto;
+import vierasionGameSite.ESCCUP.repository.MatchRepository;
+import vierasionGameSite.ESCCUP.service.GroupStageService;
+import vierasionGameSite.ESCCUP.service.MatchAnalyticsStore;
+import vierasionGameSite.ESCCUP.service.MatchEventBroadcaster;
+
+import java.util.List;
+import java.util.Map;
+
+// 조별 리그 / 스위스 스테이지 (토너먼트 본선 전 단계)
+@RestController
+@RequestMapping("/api/groups")
+@RequiredArgsConstructor
+public class GroupStageController {
+
+    private final GroupStageService groupStageService;
+    private final MatchRepository matchRepository;
+    private final ResourceVersions resourceVersions;
+    private final MatchAnalyticsStore matchAnalyticsStore;
+    private final MatchEventBroadcaster matchEventBroadcaster;
+
+    // 조 이름 목록
+    @GetMapping
+    public List<String> getGroups() {
+        return groupStageService.groupNames();
+    }
+
+    // 1. 풀리그 일정 생성
+    // POST /api/groups/round-robin  body: { "groupName": "A조", "teamIds": [1, 2, 3, 4] }
+    @PostMapping("/round-robin")
+    public Map<String, Object> createRoundRobin(@RequestBody Map<String, Object> payload) {
+        String groupName = (String) payload.get("groupName");
+        int created = groupStageService.createRoundRobin(groupName, teamIds(payload));
+        scheduled(groupName, created);
+        return Map.of("groupName", groupName, "matches", created);
+    }
+
+    // 2. 스위스 스테이지 생성 (1라운드 짝짓기까지)
+    // POST /api/groups/swiss  body: { "groupName": "스위스", "teamIds": [시드 순서대로...] }
+    @PostMapping("/swiss")
+    public Map<String, Object> createSwiss(@RequestBody Map<String, Object> payload) {
+        String groupName = (String) payload.get("groupName");
+        int created = groupStageService.createSwiss(groupName, teamIds(payload));
+        scheduled(groupName, created);
+        return Map.of("groupName", groupName, "matches", created);
+    }
+
+    // 3. 스위스 다음 라운드 짝짓기 (현재 순위 기준, 재대결 없이)
+    // POST /api/groups/{groupName}/swiss/next
+    @PostMapping("/{groupName}/swiss/next")
+    public Map<String, Object> pairNextSwissRound(@PathVariable String groupName) {
+        int created = groupStageService.pairNextSwissRound(groupName);
+        scheduled(groupName, created);
+        return Map.of("groupName", groupName, "matches", created);
+    }
+
+    // 4. 순위표 (승수 → 승자승 → 세트 득실)
+    @GetMapping("/{groupName}/standings")
+    public List<GroupStandingDto> getStandings(@PathVariable String groupName, WebRequest request) {
+        if (request.checkNotModified(resourceVersions.etag(Family.MATCHES, Family.TEAMS))) {
+            return null;
+        }
+        return groupStageService.standings(groupName);
+    }
+
+    // 5. 조 삭제 (경기까지 전부)
+    @DeleteMapping("/{groupName}")
+    @Transactional
+    public void deleteGroup(@PathVariable String groupName) {
+        matchRepository.deleteByGroupName(groupName);
+        groupStageService.reloadAfterCommit();
+        matchAnalyticsStore.reloadAfterCommit();
+        resourceVersions.bump(Family.MATCHES);
+        matchEventBroadcaster.publish("GROUP_DELETED", null, Map.of("groupName", groupName));
+    }
+
+    private void scheduled(String groupName, int matches) {
+        matchAnalyticsStore.reloadAfterCommit();
+        resourceVersions.bump(Family.MATCHES);
+        matchEventBroadcaster.publish("GROUP_SCHEDULED", null, Map.of("groupName", groupName, "matches", matches));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Long> teamIds(Map<String, Object> payload) {
+        Object raw = payload.get("teamIds");
+        if (!(raw instanceof List<?> list)) throw new IllegalArgumentException("teamIds가 필요합니다.");
+        return ((List<Object>) list).stream().map(id -> Long.valueOf(id.toString())).toList();
+    }
+}
@@ -0,0 +1,42 @@
+// src/main/java/vierasionGameSite/ESCCUP/controller/LeaderboardController.java
+
+package vierasionGameSite.ESCCUP.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import vierasionGameSite.ESCCUP.service.LeaderboardService;
+import vierasionGameSite.ESCCUP.service.LeaderboardService.Category;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/leaderboards")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    // 방송 오버레이용 전체 순위표 (메모리에서 바로 응답)
+    // GET /api/leaderboards?limit=5&minGames=2
+    @GetMapping
+    public Map<Category, List<Map<String, Object>>> getAll(@RequestParam(defaultValue = "5") int limit,
+                                                           @RequestParam(defaultValue = "1") int minGames) {
+        return leaderboardService.topAll(limit, minGames);
+    }
+
+    // 카테고리 하나 (KILLS, KDA, DAMAGE_PER_GAME, CS)
+    // GET /api/leaderboards/KDA?limit=10&minGames=3
+    @GetMapping("/{category}")
+    public List<Map<String, Object>> getOne(@PathVariable String category,
+                                            @RequestParam(defaultValue = "10") int limit,
+                                            @RequestParam(defaultValue = "1") int minGames) {
+        Category parsed;
+        try {
+            parsed = Category.valueOf(category.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 순위표 카테고리입니다: " + category);
+        }
+        return leaderboardService.top(parsed, limit, minGames);
+    }
+}
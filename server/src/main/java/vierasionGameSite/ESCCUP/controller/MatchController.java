@@ -3,13 +3,28 @@
 package vierasionGameSite.ESCCUP.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import vierasionGameSite.ESCCUP.component.JsonResponseCache;
+import vierasionGameSite.ESCCUP.component.ResourceVersions;
+import vierasionGameSite.ESCCUP.component.ResourceVersions.Family;
+import vierasionGameSite.ESCCUP.dto.BatchLoadRequest;
+import vierasionGameSite.ESCCUP.dto.BatchLoadResult;
 import vierasionGameSite.ESCCUP.dto.MatchDto;
+import vierasionGameSite.ESCCUP.dto.MatchSummaryDto;
 import vierasionGameSite.ESCCUP.entity.Match;
 import vierasionGameSite.ESCCUP.entity.Team;
 import vierasionGameSite.ESCCUP.repository.MatchRepository;
 import vierasionGameSite.ESCCUP.repository.TeamRepository;
+import vierasionGameSite.ESCCUP.service.BracketGraph;
+import vierasionGameSite.ESCCUP.service.GroupStageService;
+import vierasionGameSite.ESCCUP.service.MatchAnalyticsStore;
+import vierasionGameSite.ESCCUP.service.MatchEventBroadcaster;
+import vierasionGameSite.ESCCUP.service.PickBanService;
+import vierasionGameSite.ESCCUP.service.PlayerStatsService;
 import vierasionGameSite.ESCCUP.service.RiotApiService;
 
 import java.util.List;
@@ -32,13 +47,40 @@ public class MatchController {
     private final MatchRepository matchRepository;
     private final TeamRepository teamRepository;
     private final RiotApiService riotApiService;
-
-    // 1. 대진표 조회
+    private final ResourceVersions resourceVersions;
+    private final JsonResponseCache jsonResponseCache;
+    private final MatchEventBroadcaster matchEventBroadcaster;
+    private final PlayerStatsService playerStatsService;
+    private final MatchAnalyticsStore matchAnalyticsStore;
+    private final PickBanService pickBanService;
+    private final BracketGraph bracketGraph;
+    private final GroupStageService groupStageService;
+
+    // 1. 대진표 조회 (요약 정보만, 팀은 한 번에 가져와서 경기마다 추가 쿼리가 나가지 않음)
+    // 변경이 없으면 ETag 비교만 하고 DB 조회 없이 304
+    // 캐시에 같은 버전의 JSON이 있으면 DTO 변환 없이 바이트 그대로 응답
     @GetMapping
-    public List<MatchDto> getAllMatches() {
-        return matchRepository.findAllByOrderByIdAsc().stream()
-                .map(MatchDto::new)
-                .collect(Collectors.toList());
+    public ResponseEntity<byte[]> getAllMatches(WebRequest request) {
+        String etag = resourceVersions.etag(Family.MATCHES, Family.TEAMS);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        byte[] body = jsonResponseCache.get("matches", etag, () -> matchRepository.findAllWithTeams().stream()
+                .map(MatchSummaryDto::new)
+                .collect(Collectors.toList()));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // 1-1. 경기 상세 기록 (선수별 스탯, 오브젝트, 밴) - 상세 모달 열 때 호출
+    @GetMapping("/{id}/details")
+    public ResponseEntity<byte[]> getMatchDetails(@PathVariable Long id, WebRequest request) {
+        String etag = resourceVersions.etag(Family.MATCHES, Family.TEAMS, Family.PLAYERS);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        byte[] body = jsonResponseCache.get("matches/" + id, etag, () -> new MatchDto(matchRepository.findWithDetailsById(id)
+                .orElseThrow(() -> new RuntimeException("Match not found"))));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     // 2. 대진표 생성 (관리자용) - "8강 1경기", 블루팀ID, 레드팀ID
@@ -54,32 +96,58 @@ public class MatchController {
         if (blueId != null) match.setBlueTeam(teamRepository.findById(blueId).orElse(null));
         if (redId != null) match.setRedTeam(teamRepository.findById(redId).orElse(null));
 
-        return new MatchDto(matchRepository.save(match));
+        Match saved = matchRepository.save(match);
+        resourceVersions.bump(Family.MATCHES);
+        matchEventBroadcaster.publish("MATCH_CREATED", saved.getId());
+        return new MatchDto(saved);
     }
 
     // 3. 경기 결과 업데이트 (관리자용) - 승리팀, 점수
+    // 승패가 바뀌므로 선수 누적 전적도 다시 반영
     @PutMapping("/{id}")
+    @Transactional
     public MatchDto updateMatchResult(@PathVariable Long id, @RequestBody Map<String, Object> payload) {
         Match match = matchRepository.findById(id).orElseThrow();
 
         String score = (String) payload.get("score"); // "2:1"
         Long winnerId = payload.get("winnerTeamId") != null ? Long.valueOf(payload.get("winnerTeamId").toString()) : null;
 
-        match.setScore(score);
-        match.setStatus("FINISHED");
-
-        if (winnerId != null) {
-            Team winner = teamRepository.findById(winnerId).orElse(null);
-            match.setWinningTeam(winner);
-        }
-
-        return new MatchDto(matchRepository.save(match));
+        playerStatsService.reapply(match, () -> {
+            match.setScore(score);
+            match.setStatus("FINISHED");
+
+            if (winnerId != null) {
+                Team winner = teamRepository.findById(winnerId).orElse(null);
+                match.recordWinner(winner);
+            } else if (score != null) {
+                match.setWinningSide(null); // 점수만 고친 경우는 점수로 판단
+            }
+        });
+
+        Match saved = matchRepository.save(match);
+        matchAnalyticsStore.upsert(saved);
+        if (bracketGraph.contains(id)) bracketGraph.reloadAfterCommit(); // 대진표 경기면 그래프도 다시 적재
+        groupStageService.record(saved); // 조별 리그 경기면 순위 갱신
+        resourceVersions.bump(Family.MATCHES);
+        matchEventBroadcaster.publish("WINNER_SET", id, Map.of("score", score != null ? score : ""));
+        return new MatchDto(saved);
     }
 
-    // 4. 경기 삭제
+    // 4. 경기 삭제 (선수 누적 전적에서 이 경기 몫을 먼저 빼고 삭제)
     @DeleteMapping("/{id}")
+    @Transactional
     public void deleteMatch(@PathVariable Long id) {
+        matchRepository.findWithDetailsById(id).ifPresent(m -> {
+            playerStatsService.revertMatch(m);
+            groupStageService.remove(m);
+        });
+        pickBanService.removeMatch(id);
         matchRepository.deleteById(id);
+        matchAnalyticsStore.remove(id);
+        if (bracketGraph.contains(id)) bracketGraph.reloadAfterCommit();
+        resourceVersions.bump(Family.MATCHES);
+        jsonResponseCache.evict("matches/" + id);
+        matchEventBroadcaster.publish("MATCH_DELETED", id);
     }
 
     // ✨ 라이엇 API로 경기 불러오기
@@ -95,27 +163,46 @@ public class MatchController {
         return new MatchDto(match);
     }
 
+    // ✨ 라이엇 API로 여러 경기 한 번에 불러오기
+    // POST /api/matches/load/batch
+    // body: { "stage": "8강", "games": [ { "gameId": "KR_12345" }, { "gameId": "KR_12346", "stage": "4강" } ] }
+    // 경기별 성공/실패 결과를 돌려줌 (잘못된 ID가 있어도 나머지는 저장됨)
+    @PostMapping("/load/batch")
+    public List<BatchLoadResult> loadBatchFromRiot(@RequestBody BatchLoadRequest request) {
+        return riotApiService.loadMatchesFromRiot(request);
+    }
+
     // ✨ [추가] 경기 팀 정보 수동 업데이트 API
+    // (승리팀이 어느 진영인지가 바뀔 수 있어서 선수 누적 전적도 다시 반영)
     @PatchMapping("/{id}/teams")
+    @Transactional
     public ResponseEntity<Void> updateMatchTeams(@PathVariable Long id, @RequestBody Map<String, Long> teamIds) {
         Match match = matchRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Match not found"));
 
-        // 블루팀 업데이트
-        if (teamIds.containsKey("blueTeamId")) {
-            Long bId = teamIds.get("blueTeamId");
-            Team blueTeam = (bId != null) ? teamRepository.findById(bId).orElse(null) : null;
-            match.setBlueTeam(blueTeam);
-        }
-
-        // 레드팀 업데이트
-        if (teamIds.containsKey("redTeamId")) {
-            Long rId = teamIds.get("redTeamId");
-            Team redTeam = (rId != null) ? teamRepository.findById(rId).orElse(null) : null;
-            match.setRedTeam(redTeam);
-        }
+        playerStatsService.reapply(match, () -> {
+            // 블루팀 업데이트
+            if (teamIds.containsKey("blueTeamId")) {
+                Long bId = teamIds.get("blueTeamId");
+                Team blueTeam = (bId != null) ? teamRepository.findById(bId).orElse(null) : null;
+                match.setBlueTeam(blueTeam);
+            }
+
+            // 레드팀 업데이트
+            if (teamIds.containsKey("redTeamId")) {
+                Long rId = teamIds.get("redTeamId");
+                Team redTeam = (rId != null) ? teamRepository.findById(rId).orElse(null) : null;
+                match.setRedTeam(redTeam);
+            }
+        });
 
         matchRepository.save(match);
+        matchAnalyticsStore.upsert(match);
+        pickBanService.updateMeta(match);
+        if (bracketGraph.contains(id)) bracketGraph.reloadAfterCommit();
+        groupStageService.record(match);
+        resourceVersions.bump(Family.MATCHES);
+        matchEventBroadcaster.publish("TEAM_PLACED", id);
         return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
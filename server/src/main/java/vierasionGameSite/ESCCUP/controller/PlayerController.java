@@ -0,0 +1,23 @@
+// src/main/java/vierasionGameSite/ESCCUP/controller/PlayerController.java
+
+package vierasionGameSite.ESCCUP.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import vierasionGameSite.ESCCUP.dto.PlayerStatsDto;
+import vierasionGameSite.ESCCUP.service.PlayerStatsService;
+
+@RestController
+@RequestMapping("/api/players")
+@RequiredArgsConstructor
+public class PlayerController {
+
+    private final PlayerStatsService playerStatsService;
+
+    // 선수 누적 전적 (경기 수, 승률, 평균 KDA/딜량/골드/CS, 챔피언 폭)
+    // GET /api/players/3/stats
+    @GetMapping("/{id}/stats")
+    public PlayerStatsDto getStats(@PathVariable Long id) {
+        return playerStatsService.getStats(id);
+    }
+}
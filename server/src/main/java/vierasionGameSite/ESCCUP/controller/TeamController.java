@@ -4,6 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import vierasionGameSite.ESCCUP.component.ResourceVersions;
+import vierasionGameSite.ESCCUP.component.ResourceVersions.Family;
 import vierasionGameSite.ESCCUP.entity.Team;
 import vierasionGameSite.ESCCUP.repository.TeamRepository;
 
@@ -15,10 +18,15 @@ import java.util.List;
 public class TeamController {
 
     private final TeamRepository teamRepository;
+    private final ResourceVersions resourceVersions;
 
     // 팀 전체 목록 조회
     @GetMapping
-    public List<Team> getAllTeams() {
+    public List<Team> getAllTeams(WebRequest request) {
+        // 팀 엔티티에 소속 선수도 같이 나가므로 선수 버전까지 포함
+        if (request.checkNotModified(resourceVersions.etag(Family.TEAMS, Family.PLAYERS))) {
+            return null;
+        }
         return teamRepository.findAll();
     }
 }
\ No newline at end of file
@@ -2,93 +2,163 @@ package vierasionGameSite.ESCCUP.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import vierasionGameSite.ESCCUP.component.ResourceVersions;
+import vierasionGameSite.ESCCUP.component.ResourceVersions.Family;
 import vierasionGameSite.ESCCUP.dto.MatchDto;
 import vierasionGameSite.ESCCUP.entity.Match;
 import vierasionGameSite.ESCCUP.entity.Team;
 import vierasionGameSite.ESCCUP.repository.MatchRepository;
 import vierasionGameSite.ESCCUP.repository.TeamRepository;
+import vierasionGameSite.ESCCUP.service.BracketGenerator;
+import vierasionGameSite.ESCCUP.service.BracketGraph;
+import vierasionGameSite.ESCCUP.service.GroupStageService;
+import vierasionGameSite.ESCCUP.service.MatchAnalyticsStore;
+import vierasionGameSite.ESCCUP.service.MatchEventBroadcaster;
+import vierasionGameSite.ESCCUP.service.PlayerStatsService;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/tournament")
 @RequiredArgsConstructor
 public class TournamentController {
 
+    private final ResourceVersions resourceVersions;
+    private final MatchEventBroadcaster matchEventBroadcaster;
+    private final MatchAnalyticsStore matchAnalyticsStore;
+    private final BracketGenerator bracketGenerator;
+    private final BracketGraph bracketGraph;
     private final MatchRepository matchRepository;
     private final TeamRepository teamRepository;
+    private final PlayerStatsService playerStatsService;
+    private final GroupStageService groupStageService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 0. 실시간 변경 알림 구독 (SSE)
+    // GET /api/tournament/stream → event: WINNER_SET, data: {"type":"WINNER_SET","matchId":3,...}
+    @GetMapping(value = "/stream", produces = "text/event-stream")
+    public SseEmitter stream() {
+        return matchEventBroadcaster.subscribe();
+    }
 
     // 1. 빈 대진표 틀 생성 (관리자용)
-    // teamCount: 4, 8, 16 중 하나
+    // teamCount: 2~64 (2의 거듭제곱이 아니면 남는 자리는 부전승)
+    // seedTeamIds를 주면 시드 순서대로 1라운드에 팀까지 배치 (teamCount는 무시)
     @PostMapping("/create-empty")
     @Transactional
-    public void createEmptyBracket(@RequestParam int teamCount) {
-        // 기존 토너먼트 데이터만 삭제 (일반 전적 보호)
-        matchRepository.deleteByRoundNotNull();
-
-        // 결승전부터 역순으로 생성하여 ID를 연결합니다.
-
-        // [결승] Round 2
-        Match finalMatch = saveMatch(2, 1, "결승전", null);
-
-        if (teamCount >= 4) {
-            // [4강] 2경기
-            Match semi1 = saveMatch(4, 1, "4강 1경기", finalMatch.getId());
-            Match semi2 = saveMatch(4, 2, "4강 2경기", finalMatch.getId());
-
-            if (teamCount >= 8) {
-                // [8강] 4경기
-                saveMatch(8, 1, "8강 1경기", semi1.getId());
-                saveMatch(8, 2, "8강 2경기", semi1.getId());
-                saveMatch(8, 3, "8강 3경기", semi2.getId());
-                saveMatch(8, 4, "8강 4경기", semi2.getId());
-            }
-        }
+    public void createEmptyBracket(@RequestParam int teamCount,
+                                   @RequestParam(required = false) List<Long> seedTeamIds) {
+        bracketGenerator.generate(teamCount, seedTeamIds);
+
+        matchAnalyticsStore.reloadAfterCommit();
+        bracketGraph.reloadAfterCommit();
+        resourceVersions.bump(Family.MATCHES);
+        matchEventBroadcaster.publish("BRACKET_RESET", null, Map.of("teamCount", teamCount));
     }
 
     // 2. 관리자가 특정 경기의 팀을 배치하거나 승리 처리를 했을 때
+    // 대진표 그래프가 영향받는 경기만 골라 한 트랜잭션으로 저장 (결과가 바뀌면 이후 라운드 진출도 연쇄로 되돌림)
+    // 대진표에 없는 경기(조별 리그, 스위스, 일반 경기)는 그 경기 하나만 수정 (진출 처리 없음)
     @PutMapping("/{matchId}")
-    @Transactional
     public void updateMatch(@PathVariable Long matchId, @RequestBody MatchDto dto) {
-        Match match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new RuntimeException("경기 없음"));
+        if (!bracketGraph.contains(matchId)) {
+            updateSingleMatch(matchId, dto);
+            return;
+        }
 
-        // 1. 팀 수동 배치 (주로 1라운드용)
-        if (dto.getBlueTeamId() != null) match.setBlueTeam(teamRepository.findById(dto.getBlueTeamId()).orElse(null));
-        if (dto.getRedTeamId() != null) match.setRedTeam(teamRepository.findById(dto.getRedTeamId()).orElse(null));
+        // 팀 배치(주로 1라운드용)와 승리 처리를 한 번에 저장 → 중간에 실패해도 반쯤 바뀐 대진표가 남지 않음
+        BracketGraph.Change change = bracketGraph.update(matchId,
+                dto.getBlueTeamId(), dto.getRedTeamId(), dto.getWinnerTeamId(), dto.getScore());
 
-        // 2. 승리팀 설정 및 다음 라운드 진출 로직
+        // 저장이 끝난 뒤에만 알림
+        if (dto.getBlueTeamId() != null || dto.getRedTeamId() != null) {
+            matchEventBroadcaster.publish("TEAM_PLACED", matchId);
+        }
         if (dto.getWinnerTeamId() != null) {
-            Team winner = teamRepository.findById(dto.getWinnerTeamId()).orElse(null);
-            match.setWinningTeam(winner);
-            match.setStatus("FINISHED");
-            match.setScore(dto.getScore()); // 점수 업데이트
-
-            // ✨ [핵심] 다음 경기로 승리팀 자동 진출
-            if (match.getNextMatchId() != null) {
-                Match nextMatch = matchRepository.findById(match.getNextMatchId()).orElseThrow();
-
-                // 홀수(1,3)번째 경기는 다음 경기의 BLUE팀으로, 짝수(2,4)는 RED팀으로 진출
-                if (match.getMatchOrder() % 2 != 0) {
-                    nextMatch.setBlueTeam(winner);
-                } else {
-                    nextMatch.setRedTeam(winner);
+            matchEventBroadcaster.publish("WINNER_SET", matchId, Map.of("winnerTeamId", dto.getWinnerTeamId()));
+        }
+        for (Long revertedId : change.revertedMatchIds()) {
+            matchEventBroadcaster.publish("RESULT_REVERTED", revertedId);
+        }
+
+        // ✨ [핵심] 다음 경기로 승리팀 자동 진출
+        if (change.advancedToMatchId() != null) {
+            matchEventBroadcaster.publish("MATCH_ADVANCED", matchId, Map.of(
+                    "nextMatchId", change.advancedToMatchId(),
+                    "side", change.advancedSide()));
+        }
+
+        resourceVersions.bump(Family.MATCHES);
+    }
+
+    // 대진표 밖 경기 수정: 팀 배치 + 승리 처리를 한 트랜잭션으로, 승패가 바뀌므로 선수 누적 전적도 다시 반영
+    private void updateSingleMatch(Long matchId, MatchDto dto) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Match match = matchRepository.findById(matchId)
+                    .orElseThrow(() -> new IllegalArgumentException("경기를 찾을 수 없습니다: " + matchId));
+            Team blue = dto.getBlueTeamId() != null ? findTeam(dto.getBlueTeamId()) : match.getBlueTeam();
+            Team red = dto.getRedTeamId() != null ? findTeam(dto.getRedTeamId()) : match.getRedTeam();
+            Team winner = null;
+            if (dto.getWinnerTeamId() != null) {
+                winner = isTeam(blue, dto.getWinnerTeamId()) ? blue
+                        : isTeam(red, dto.getWinnerTeamId()) ? red : null;
+                if (winner == null) {
+                    throw new IllegalArgumentException("이 경기에 배치되지 않은 팀입니다: " + dto.getWinnerTeamId());
                 }
-                matchRepository.save(nextMatch);
             }
+
+            Team finalWinner = winner;
+            playerStatsService.reapply(match, () -> {
+                match.setBlueTeam(blue);
+                match.setRedTeam(red);
+                if (finalWinner != null) {
+                    match.recordWinner(finalWinner);
+                    match.setScore(dto.getScore());
+                    match.setStatus("FINISHED");
+                } else if (match.getWinningTeam() != null
+                        && !isTeam(blue, match.getWinningTeam().getId()) && !isTeam(red, match.getWinningTeam().getId())) {
+                    // 팀이 바뀌어 이전 승자가 더 이상 이 경기에 없으면 결과를 비움
+                    match.recordWinner(null);
+                    match.setScore(null);
+                    match.setStatus("SCHEDULED");
+                }
+            });
+            Match saved = matchRepository.save(match);
+            matchAnalyticsStore.upsert(saved);
+            groupStageService.record(saved); // 조별 리그 경기면 커밋 후 순위 갱신
+        });
+
+        // 저장이 끝난 뒤에만 알림
+        if (dto.getBlueTeamId() != null || dto.getRedTeamId() != null) {
+            matchEventBroadcaster.publish("TEAM_PLACED", matchId);
+        }
+        if (dto.getWinnerTeamId() != null) {
+            matchEventBroadcaster.publish("WINNER_SET", matchId, Map.of("winnerTeamId", dto.getWinnerTeamId()));
         }
+        resourceVersions.bump(Family.MATCHES);
+    }
 
-        matchRepository.save(match);
+    private static boolean isTeam(Team team, Long teamId) {
+        return team != null && team.getId().equals(teamId);
     }
 
-    private Match saveMatch(int round, int order, String stage, Long nextId) {
-        Match m = new Match();
-        m.setRound(round);
-        m.setMatchOrder(order);
-        m.setStage(stage);
-        m.setNextMatchId(nextId);
-        m.setStatus("SCHEDULED");
-        return matchRepository.save(m);
+    private Team findTeam(Long teamId) {
+        return teamRepository.findById(teamId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 팀입니다: " + teamId));
+    }
+
+    // 3. 조립된 대진표 (메모리 그래프에서 바로, 라운드 내림차순)
+    // GET /api/tournament/bracket → { "8": [...], "4": [...], "2": [...] }
+    @GetMapping("/bracket")
+    public Map<Integer, List<MatchDto>> getBracket(WebRequest request) {
+        if (request.checkNotModified(resourceVersions.etag(Family.MATCHES, Family.TEAMS))) {
+            return null;
+        }
+        return bracketGraph.rounds();
     }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+// src/main/java/vierasionGameSite/ESCCUP/dto/BatchLoadRequest.java
+
+package vierasionGameSite.ESCCUP.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 라이엇 경기 일괄 불러오기 요청
+// { "stage": "8강", "games": [ { "gameId": "KR_12345" }, { "gameId": "KR_12346", "stage": "4강" } ] }
+@Data
+@NoArgsConstructor
+public class BatchLoadRequest {
+    private String stage; // 개별 stage가 없을 때 쓰는 기본값
+    private List<Game> games = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    public static class Game {
+        private String gameId;
+        private String stage; // 비어 있으면 공통 stage 사용
+    }
+}
@@ -0,0 +1,26 @@
+// src/main/java/vierasionGameSite/ESCCUP/dto/BatchLoadResult.java
+
+package vierasionGameSite.ESCCUP.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 일괄 불러오기 결과 (경기 1건당 1개)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchLoadResult {
+    private String gameId;
+    private boolean success;
+    private Long matchId;   // 저장 성공 시 생성된 경기 ID
+    private String message; // 실패 사유
+
+    public static BatchLoadResult success(String gameId, Long matchId) {
+        return new BatchLoadResult(gameId, true, matchId, null);
+    }
+
+    public static BatchLoadResult failure(String gameId, String message) {
+        return new BatchLoadResult(gameId, false, null, message);
+    }
+}
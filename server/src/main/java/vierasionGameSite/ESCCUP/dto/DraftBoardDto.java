@@ -0,0 +1,18 @@
+// src/main/java/vierasionGameSite/ESCCUP/dto/DraftBoardDto.java
+
+package vierasionGameSite.ESCCUP.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 드래프트 화면 한 장 분량 (팀별 로스터 + 대기 명단)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DraftBoardDto {
+    private List<TeamDto> teams;
+    private List<PlayerDto> standby;
+}
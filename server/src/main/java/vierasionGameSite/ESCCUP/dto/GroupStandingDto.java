@@ -0,0 +1,23 @@
+package vierasionGameSite.ESCCUP.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 조별 리그 순위표 한 줄
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupStandingDto {
+    private int rank;
+    private Long teamId;
+    private String teamName;
+    private int played;
+    private int wins;
+    private int losses;
+    private int gameWins;   // 세트 승 (점수 "2:1"의 2)
+    private int gameLosses;
+    private int gameDiff;   // 세트 득실
+    private int blueSides;  // 블루 진영으로 배정된 경기 수
+    private int redSides;
+}
@@ -27,6 +27,9 @@ public class MatchDto {
     private Integer matchOrder;
     private Long nextMatchId;
 
+    // 조별 리그 정보
+    private String groupName;
+    private Integer groupRound;
 
     // 상세 통계 데이터 (오브젝트 & 밴)
     private int blueBaronKills;
@@ -54,6 +57,8 @@ public class MatchDto {
         this.round = m.getRound();
         this.matchOrder = m.getMatchOrder();
         this.nextMatchId = m.getNextMatchId();
+        this.groupName = m.getGroupName();
+        this.groupRound = m.getGroupRound();
 
         // 1. 블루팀 처리 (DB에 없는 팀이면 "Blue Team"으로 표시)
         if (m.getBlueTeam() != null) {
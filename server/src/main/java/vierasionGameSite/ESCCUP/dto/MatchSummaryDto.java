@@ -0,0 +1,56 @@
+package vierasionGameSite.ESCCUP.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import vierasionGameSite.ESCCUP.entity.Match;
+
+// 경기 목록 / 대진표용 요약 정보 (선수별 상세 기록, 오브젝트, 밴 제외)
+// 상세 기록은 GET /api/matches/{id}/details 로 따로 조회
+@Data
+@NoArgsConstructor
+public class MatchSummaryDto {
+    private Long id;
+    private String stage;
+    private Long blueTeamId;
+    private String blueTeamName;
+    private Long redTeamId;
+    private String redTeamName;
+    private Long winnerTeamId;
+    private String score;
+    private String status;
+
+    // 토너먼트 정보
+    private Integer round;
+    private Integer matchOrder;
+    private Long nextMatchId;
+
+    // Entity -> DTO 변환 생성자 (팀은 미리 fetch join 되어 있어야 추가 쿼리 없음)
+    public MatchSummaryDto(Match m) {
+        this.id = m.getId();
+        this.stage = m.getStage();
+        this.score = m.getScore();
+        this.status = m.getStatus();
+        this.round = m.getRound();
+        this.matchOrder = m.getMatchOrder();
+        this.nextMatchId = m.getNextMatchId();
+
+        // DB에 없는 팀이면 "Blue Team" / "Red Team"으로 표시 (MatchDto와 동일)
+        if (m.getBlueTeam() != null) {
+            this.blueTeamId = m.getBlueTeam().getId();
+            this.blueTeamName = m.getBlueTeam().getName();
+        } else {
+            this.blueTeamName = "Blue Team";
+        }
+
+        if (m.getRedTeam() != null) {
+            this.redTeamId = m.getRedTeam().getId();
+            this.redTeamName = m.getRedTeam().getName();
+        } else {
+            this.redTeamName = "Red Team";
+        }
+
+        if (m.getWinningTeam() != null) {
+            this.winnerTeamId = m.getWinningTeam().getId();
+        }
+    }
+}
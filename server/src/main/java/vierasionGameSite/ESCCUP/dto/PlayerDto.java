@@ -13,6 +13,7 @@ public class PlayerDto {
     private String name;
     private String tier;
     private String highestTier;
+    private Integer tierOrdinal; // 정렬용 티어 서열 (읽기 전용)
     private String position;
     private String opggUrl;
     private Long teamId; // 팀 객체 대신 ID만 보냅니다 (순환 참조 방지)
@@ -23,6 +24,7 @@ public class PlayerDto {
         this.name = player.getName();
         this.tier = player.getTier();
         this.highestTier = player.getHighestTier();
+        this.tierOrdinal = player.getTierOrdinal();
         this.position = player.getPosition();
         this.opggUrl = player.getOpggUrl();
         if (player.getTeam() != null) {
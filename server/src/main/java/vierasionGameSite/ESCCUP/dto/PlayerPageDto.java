@@ -0,0 +1,27 @@
+package vierasionGameSite.ESCCUP.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import vierasionGameSite.ESCCUP.entity.Player;
+
+import java.util.List;
+
+// 선수 목록 한 페이지 (관리자 선수 목록용)
+@Data
+@NoArgsConstructor
+public class PlayerPageDto {
+    private List<PlayerDto> content;
+    private int page;           // 0부터 시작
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    public PlayerPageDto(Page<Player> page) {
+        this.content = page.getContent().stream().map(PlayerDto::new).toList();
+        this.page = page.getNumber();
+        this.size = page.getSize();
+        this.totalElements = page.getTotalElements();
+        this.totalPages = page.getTotalPages();
+    }
+}
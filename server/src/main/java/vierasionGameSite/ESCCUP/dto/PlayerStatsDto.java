@@ -0,0 +1,80 @@
+// src/main/java/vierasionGameSite/ESCCUP/dto/PlayerStatsDto.java
+
+package vierasionGameSite.ESCCUP.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import vierasionGameSite.ESCCUP.entity.PlayerChampionStats;
+import vierasionGameSite.ESCCUP.entity.PlayerStats;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 선수 프로필용 누적 전적 (평균값은 합계 ÷ 경기 수)
+@Data
+@NoArgsConstructor
+public class PlayerStatsDto {
+    private Long playerId;
+    private int games;
+    private int wins;
+    private int losses;
+    private double winRate;     // 0 ~ 100 (%)
+
+    private double avgKills;
+    private double avgDeaths;
+    private double avgAssists;
+    private double kda;         // (K + A) / D, 데스 0이면 K + A
+
+    private double avgDamage;
+    private double avgGold;
+    private double avgCs;
+
+    private List<ChampionStat> champions;
+
+    @Data
+    @NoArgsConstructor
+    public static class ChampionStat {
+        private String championName;
+        private int games;
+        private int wins;
+        private double winRate;
+
+        public ChampionStat(PlayerChampionStats stats) {
+            this.championName = stats.getChampionName();
+            this.games = stats.getGames();
+            this.wins = stats.getWins();
+            this.winRate = percent(stats.getWins(), stats.getGames());
+        }
+    }
+
+    public PlayerStatsDto(PlayerStats stats, List<PlayerChampionStats> champions) {
+        this.playerId = stats.getPlayerId();
+        this.games = stats.getGames();
+        this.wins = stats.getWins();
+        this.losses = stats.getGames() - stats.getWins();
+        this.winRate = percent(stats.getWins(), stats.getGames());
+
+        this.avgKills = average(stats.getKills(), games);
+        this.avgDeaths = average(stats.getDeaths(), games);
+        this.avgAssists = average(stats.getAssists(), games);
+        long ka = stats.getKills() + stats.getAssists();
+        this.kda = stats.getDeaths() == 0 ? ka : Math.round(ka * 100.0 / stats.getDeaths()) / 100.0;
+
+        this.avgDamage = average(stats.getTotalDamage(), games);
+        this.avgGold = average(stats.getTotalGold(), games);
+        this.avgCs = average(stats.getTotalCs(), games);
+
+        this.champions = champions.stream()
+                .map(ChampionStat::new)
+                .collect(Collectors.toList());
+    }
+
+    // 소수 둘째 자리까지
+    private static double average(long total, int games) {
+        return games == 0 ? 0 : Math.round(total * 100.0 / games) / 100.0;
+    }
+
+    private static double percent(int wins, int games) {
+        return games == 0 ? 0 : Math.round(wins * 1000.0 / games) / 10.0;
+    }
+}
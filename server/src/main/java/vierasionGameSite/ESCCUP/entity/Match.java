@@ -14,7 +14,10 @@ import java.util.List;
 @Entity
 @Getter @Setter
 @NoArgsConstructor
-@Table(name = "matches")
+@Table(name = "matches", indexes = {
+        @Index(name = "idx_matches_game_id", columnList = "game_id"),
+        @Index(name = "idx_matches_group_name", columnList = "group_name")
+})
 public class Match {
 
     @Id
@@ -24,11 +27,22 @@ public class Match {
     // 대진표 단계
     private String stage;
 
+    // Riot 경기 ID (예: "KR_12345"), 라이엇 API로 불러온 경기만 값이 있음
+    @Column(name = "game_id")
+    private String gameId;
+
     // 토너먼트 구조용 필드
     private Integer round;      // 8 (8강), 4 (4강), 2 (결승)
     private Integer matchOrder; // 위에서부터 1, 2, 3, 4... 순서
     private Long nextMatchId;   // 이 경기 승자가 진출할 다음 경기 ID
 
+    // 조별 리그 / 스위스 스테이지용 필드 (토너먼트 경기가 아니므로 round는 비워 둠)
+    @Column(name = "group_name")
+    private String groupName;   // "A조", "스위스" 등
+    private Integer groupRound; // 조별 리그 안에서의 라운드 (1, 2, 3...)
+    @Column(name = "group_format", length = 12)
+    private String groupFormat; // "ROUND_ROBIN" / "SWISS"
+
     // 단순 이름(String) -> Team 객체와 연결(@ManyToOne)
     // 이렇게 해야 팀 이름이 바뀌어도 자동 반영되고, 팀 ID로 조회가 가능합니다.
     @ManyToOne(fetch = FetchType.LAZY)
@@ -44,6 +58,10 @@ public class Match {
     @JoinColumn(name = "winner_team_id")
     private Team winningTeam;
 
+    // 이긴 진영 ("BLUE" / "RED") - 라이엇 원본에서 읽은 값, 팀을 못 찾은 경기도 승패를 알 수 있게 따로 저장
+    @Column(name = "winning_side", length = 4)
+    private String winningSide;
+
     // 점수 (예: "2:1", 단판이면 "1:0" 등)
     private String score;
 
@@ -70,4 +88,40 @@ public class Match {
     private int redDragonKills;
     private int redTowerKills;
     private String redBans;
+
+    // 승리팀 지정 (관리자 입력 / 대진표) - 이긴 진영도 같이 맞춰 둠 (블루/레드 어느 쪽도 아니면 비움)
+    public void recordWinner(Team winner) {
+        this.winningTeam = winner;
+        if (winner == null) {
+            this.winningSide = null;
+        } else if (blueTeam != null && winner.getId().equals(blueTeam.getId())) {
+            this.winningSide = "BLUE";
+        } else if (redTeam != null && winner.getId().equals(redTeam.getId())) {
+            this.winningSide = "RED";
+        } else {
+            this.winningSide = null;
+        }
+    }
+
+    // 이긴 진영 ("BLUE" / "RED"), 결과가 없으면 null
+    // 저장된 이긴 진영 → 승리팀이 블루/레드 중 하나면 그걸로 → 점수("2:1" → 앞이 블루) 순서로 판단
+    public String resolveWinningSide() {
+        if ("BLUE".equals(winningSide) || "RED".equals(winningSide)) return winningSide;
+        if (winningTeam != null) {
+            if (blueTeam != null && winningTeam.getId().equals(blueTeam.getId())) return "BLUE";
+            if (redTeam != null && winningTeam.getId().equals(redTeam.getId())) return "RED";
+        }
+        if (score != null && score.contains(":")) {
+            String[] parts = score.split(":");
+            try {
+                int blue = Integer.parseInt(parts[0].trim());
+                int red = Integer.parseInt(parts[1].trim());
+                if (blue > red) return "BLUE";
+                if (red > blue) return "RED";
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException ignored) {
+                // 형식이 다른 점수는 판단하지 않음
+            }
+        }
+        return null;
+    }
 }
\ No newline at end of file
@@ -29,6 +29,7 @@ public class MatchDetail {
     private String side;
     private String position; //포지션
     private String championName; //챔피언 이름
+    private int championId; // 챔피언 ID (밴 기록과 같은 기준, 픽/밴 집계용)
 
     private int kills;
     private int deaths; 
@@ -0,0 +1,41 @@
+package vierasionGameSite.ESCCUP.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 경기별 픽 / 밴 한 건 (Match.blueBans 문자열, MatchDetail.championId를 풀어서 정규화)
+// 팀 / 단계는 Match 쪽 값을 그대로 쓰므로 여기엔 저장하지 않음
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(name = "match_draft_entries", indexes = {
+        @Index(name = "idx_draft_entries_champion", columnList = "champion_id, action"),
+        @Index(name = "idx_draft_entries_match", columnList = "match_id")
+})
+public class MatchDraftEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "match_id", nullable = false)
+    private Long matchId;
+
+    @Column(name = "champion_id", nullable = false)
+    private int championId;
+
+    @Column(nullable = false)
+    private String action; // PICK, BAN
+
+    @Column(nullable = false)
+    private String side;   // BLUE, RED
+
+    public MatchDraftEntry(Long matchId, int championId, String action, String side) {
+        this.matchId = matchId;
+        this.championId = championId;
+        this.action = action;
+        this.side = side;
+    }
+}
@@ -8,7 +8,10 @@ import lombok.Setter;
 @Entity
 @Getter @Setter
 @NoArgsConstructor
-@Table(name = "players")
+@Table(name = "players", indexes = {
+        @Index(name = "idx_players_team_id", columnList = "team_id"),
+        @Index(name = "idx_players_tier_ordinal", columnList = "tier_ordinal, id")
+})
 public class Player {
 
     @Id
@@ -18,6 +21,9 @@ public class Player {
     private String name; // 소환사명
     private String tier; // 티어
     private String highestTier;
+    // tier를 비교 가능한 숫자로 바꾼 값 (언랭 0 ~ 챌린저 31, Tier 참고) - 티어 정렬/범위 검색용
+    @Column(name = "tier_ordinal")
+    private Integer tierOrdinal;
     private String position; // 주 포지션 (TOP, JUG 등)
     @Column(name = "opgg_url")
     private String opggUrl; // OPGG 링크
@@ -28,12 +34,23 @@ public class Player {
     private Team team; // 현재 소속된 팀 (Null이면 대기 명단)
 
     // 연관 관계 편의 메서드 (양쪽 다 데이터를 맞춰주기 위함)
+    // 이전 팀 목록에서도 빼줘야 같은 트랜잭션 안의 Team.players가 DB와 어긋나지 않음
     public void setTeam(Team team) {
+        if (this.team != null && this.team != team) {
+            this.team.getPlayers().remove(this);
+        }
         this.team = team;
         if (team != null && !team.getPlayers().contains(this)) {
             team.getPlayers().add(this);
         }
     }
+    // 저장/수정 직전에 tier 문자열에서 서열 다시 계산
+    @PrePersist
+    @PreUpdate
+    void syncTierOrdinal() {
+        this.tierOrdinal = Tier.ordinalOf(tier);
+    }
+
     public Long getTeamId() {
         return team != null ? team.getId() : null;
     }
@@ -0,0 +1,28 @@
+package vierasionGameSite.ESCCUP.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 선수별 챔피언 폭 (선수 + 챔피언 조합마다 한 줄)
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(name = "player_champion_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_player_champion", columnNames = {"player_id", "champion_name"}))
+public class PlayerChampionStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "player_id", nullable = false)
+    private Long playerId;
+
+    @Column(name = "champion_name", nullable = false)
+    private String championName;
+
+    private int games;
+    private int wins;
+}
@@ -0,0 +1,30 @@
+package vierasionGameSite.ESCCUP.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 선수별 누적 전적 (경기 저장/삭제 때마다 증감으로 갱신, 프로필 조회는 PK 한 번)
+// 평균/승률은 조회할 때 합계 ÷ 경기 수로 계산
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(name = "player_stats")
+public class PlayerStats {
+
+    @Id
+    @Column(name = "player_id")
+    private Long playerId; // players.id (선수 삭제 시 같이 정리)
+
+    private int games;
+    private int wins;
+
+    private long kills;
+    private long deaths;
+    private long assists;
+
+    private long totalDamage;
+    private long totalGold;
+    private long totalCs;
+}
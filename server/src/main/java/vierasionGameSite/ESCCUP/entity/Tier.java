@@ -0,0 +1,115 @@
+package vierasionGameSite.ESCCUP.entity;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 롤 티어 (자유 입력 문자열 "Diamond", "DIAMOND II", "다이아 2", "Unranked" 등을 비교 가능한 값으로 변환)
+// - 서열(ordinal): 언랭 0, 아이언 4 = 1 ... 다이아 1 = 28, 마스터 29, 그랜드마스터 30, 챌린저 31
+// - 점수(rating): 디비전 하나 = 100점 (아이언 4 = 0점, 마스터 = 2800점) → 팀 밸런스 계산용
+public enum Tier {
+    UNRANKED(false),
+    IRON(true),
+    BRONZE(true),
+    SILVER(true),
+    GOLD(true),
+    PLATINUM(true),
+    EMERALD(true),
+    DIAMOND(true),
+    MASTER(false),
+    GRANDMASTER(false),
+    CHALLENGER(false);
+
+    public static final int UNRANKED_ORDINAL = 0;
+    public static final int MAX_ORDINAL = 31;
+
+    private static final Pattern TOKEN = Pattern.compile("[A-Z]+|[0-9]+");
+
+    private final boolean hasDivisions;
+
+    Tier(boolean hasDivisions) {
+        this.hasDivisions = hasDivisions;
+    }
+
+    // 문자열 → 서열 (알 수 없거나 비어 있으면 0 = 언랭)
+    // 디비전이 없으면 그 티어의 가장 낮은 디비전(4)으로 봄 ("Diamond" → 다이아 4)
+    public static int ordinalOf(String text) {
+        return parse(text, 4);
+    }
+
+    // 범위 검색의 상한용: 디비전이 없으면 그 티어의 가장 높은 디비전(1)으로 봄 ("Diamond" → 다이아 1)
+    public static int upperOrdinalOf(String text) {
+        return parse(text, 1);
+    }
+
+    private static int parse(String text, int defaultDivision) {
+        if (text == null || text.isBlank()) return UNRANKED_ORDINAL;
+        String t = text.trim().toUpperCase(Locale.ROOT);
+        Tier tier = match(t);
+        if (tier == null || tier == UNRANKED) return UNRANKED_ORDINAL;
+        if (!tier.hasDivisions) return 28 + (tier.ordinal() - MASTER.ordinal()) + 1;
+
+        // 영문/숫자 덩어리 중 디비전 표기만 ("DIAMOND II" → II, "D2" → 2, "다이아2" → 2)
+        int division = defaultDivision;
+        Matcher m = TOKEN.matcher(t);
+        while (m.find()) {
+            int d = parseDivision(m.group());
+            if (d > 0) division = d;
+        }
+        return (tier.ordinal() - IRON.ordinal()) * 4 + (5 - division);
+    }
+
+    // 서열 → 점수 (언랭은 null, 호출하는 쪽에서 기본값 처리)
+    public static Integer ratingOf(int ordinal) {
+        if (ordinal <= UNRANKED_ORDINAL) return null;
+        return (ordinal - 1) * 100;
+    }
+
+    // 서열 → 표시용 문자열 ("DIAMOND I", "MASTER")
+    public static String labelOf(int ordinal) {
+        if (ordinal <= UNRANKED_ORDINAL) return UNRANKED.name();
+        if (ordinal > 28) return values()[MASTER.ordinal() + ordinal - 29].name();
+        Tier tier = values()[IRON.ordinal() + (ordinal - 1) / 4];
+        int division = 4 - (ordinal - 1) % 4;
+        return tier.name() + " " + new String[]{"I", "II", "III", "IV"}[division - 1];
+    }
+
+    // 긴 이름부터 확인 (GRANDMASTER 안에 MASTER가 들어있으므로)
+    private static Tier match(String t) {
+        if (t.contains("GRANDMASTER") || t.contains("그랜드마스터") || t.contains("그마")) return GRANDMASTER;
+        if (t.contains("CHALLENGER") || t.contains("챌린저") || t.startsWith("챌")) return CHALLENGER;
+        if (t.contains("MASTER") || t.contains("마스터")) return MASTER;
+        if (t.contains("UNRANK") || t.contains("언랭")) return UNRANKED;
+        if (t.contains("DIAMOND") || t.contains("다이아")) return DIAMOND;
+        if (t.contains("EMERALD") || t.contains("에메")) return EMERALD;
+        if (t.contains("PLATINUM") || t.contains("플래") || t.contains("플레")) return PLATINUM;
+        if (t.contains("GOLD") || t.contains("골드")) return GOLD;
+        if (t.contains("SILVER") || t.contains("실버")) return SILVER;
+        if (t.contains("BRONZE") || t.contains("브론즈")) return BRONZE;
+        if (t.contains("IRON") || t.contains("아이언")) return IRON;
+        // "D2", "E4", "P1" 같은 약칭
+        if (t.length() >= 2 && Character.isDigit(t.charAt(1))) {
+            switch (t.charAt(0)) {
+                case 'D': return DIAMOND;
+                case 'E': return EMERALD;
+                case 'P': return PLATINUM;
+                case 'G': return GOLD;
+                case 'S': return SILVER;
+                case 'B': return BRONZE;
+                case 'I': return IRON;
+                default: return null;
+            }
+        }
+        return null;
+    }
+
+    private static int parseDivision(String token) {
+        switch (token) {
+            case "1": case "I": return 1;
+            case "2": case "II": return 2;
+            case "3": case "III": return 3;
+            case "4": case "IV": return 4;
+            default: return 0;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package vierasionGameSite.ESCCUP.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import vierasionGameSite.ESCCUP.entity.MatchDraftEntry;
+
+import java.util.List;
+
+public interface MatchDraftEntryRepository extends JpaRepository<MatchDraftEntry, Long> {
+
+    @Modifying
+    @Query("delete from MatchDraftEntry e where e.matchId = :matchId")
+    int deleteByMatchId(@Param("matchId") Long matchId);
+
+    // 이미 픽/밴이 정리된 경기 (백필 대상 제외용)
+    @Query("select distinct e.matchId from MatchDraftEntry e")
+    List<Long> findIndexedMatchIds();
+
+    // 챔피언 이름 → ID 대응 (championId 컬럼 추가 전 기록을 채우기 위함)
+    @Query("select distinct d.championName, d.championId from MatchDetail d where d.championId > 0 and d.championName is not null")
+    List<Object[]> findChampionIdsByName();
+}
@@ -1,12 +1,94 @@
 package vierasionGameSite.ESCCUP.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import vierasionGameSite.ESCCUP.entity.Match;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface MatchRepository extends JpaRepository<Match, Long> {
     // ID 순서대로 가져오기 (생성된 순서대로 대진표 표시)
     List<Match> findAllByOrderByIdAsc();
     //  round 값이 있는(토너먼트) 경기만 삭제하는 기능
-    void deleteByRoundNotNull();
-}
\ No newline at end of file
+    // 한 건씩 읽어서 지우지 않고 DELETE 한 번 (cascade가 안 걸리므로 상세 기록을 먼저 지움)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from MatchDetail d where d.match.id in (select m.id from Match m where m.round is not null)")
+    int deleteBracketMatchDetails();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Match m where m.round is not null")
+    int deleteBracketMatches();
+
+    // 조별 리그 하나 통째로 삭제
+    void deleteByGroupName(String groupName);
+
+    // 조별 리그 경기 전체 (순위 계산용, 팀까지 한 번에)
+    @Query("select m from Match m" +
+            " left join fetch m.blueTeam left join fetch m.redTeam left join fetch m.winningTeam" +
+            " where m.groupName is not null order by m.id asc")
+    List<Match> findGroupStageWithTeams();
+
+    // 경기 목록 / 대진표 조회용: 팀 3개까지 한 번의 쿼리로 (경기 수와 상관없이 쿼리 1회)
+    @Query("select m from Match m" +
+            " left join fetch m.blueTeam left join fetch m.redTeam left join fetch m.winningTeam" +
+            " order by m.id asc")
+    List<Match> findAllWithTeams();
+
+    // 토너먼트(round 있는) 경기만 팀까지 한 번에 (대진표 그래프 적재용)
+    @Query("select m from Match m" +
+            " left join fetch m.blueTeam left join fetch m.redTeam left join fetch m.winningTeam" +
+            " where m.round is not null order by m.round desc, m.matchOrder asc")
+    List<Match> findBracketWithTeams();
+
+    // 경기 1건 상세 조회용: 팀 + 상세 기록 + 선수까지 한 번에
+    @Query("select m from Match m" +
+            " left join fetch m.blueTeam left join fetch m.redTeam left join fetch m.winningTeam" +
+            " left join fetch m.matchDetails d left join fetch d.player" +
+            " where m.id = :id order by d.id asc")
+    Optional<Match> findWithDetailsById(@Param("id") Long id);
+
+    // Riot 경기 ID로 상세 기록까지 한 번에 조회 (원본 재파싱용)
+    @Query("select m from Match m left join fetch m.matchDetails where m.gameId in :gameIds")
+    List<Match> findAllWithDetailsByGameIdIn(@Param("gameIds") Collection<String> gameIds);
+
+    // 통계 재계산용: 경기 ID 전체 → 묶음 단위로 상세 기록까지 조회
+    @Query("select m.id from Match m order by m.id")
+    List<Long> findAllIds();
+
+    @Query("select distinct m from Match m" +
+            " left join fetch m.blueTeam left join fetch m.redTeam left join fetch m.winningTeam" +
+            " left join fetch m.matchDetails d left join fetch d.player where m.id in :ids")
+    List<Match> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 팀 삭제 전 전적을 다시 계산할 경기 (블루/레드/승리팀 중 하나로 연결된 경기)
+    @Query("select m.id from Match m" +
+            " where m.blueTeam.id = :teamId or m.redTeam.id = :teamId or m.winningTeam.id = :teamId")
+    List<Long> findIdsByTeam(@Param("teamId") Long teamId);
+
+    @Query("select m.id from Match m" +
+            " where m.blueTeam is not null or m.redTeam is not null or m.winningTeam is not null")
+    List<Long> findIdsWithAnyTeam();
+
+    // --- 팀 삭제용 일괄 UPDATE (엔티티를 불러오지 않고 SQL 한 번씩) ---
+    // 실행 전 변경분 flush, 실행 후 영속성 컨텍스트 비움 (이미 불러온 엔티티가 옛 값으로 남지 않도록)
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Match m set m.blueTeam = null where m.blueTeam.id = :teamId")
+    int unlinkBlueTeam(@Param("teamId") Long teamId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Match m set m.redTeam = null where m.redTeam.id = :teamId")
+    int unlinkRedTeam(@Param("teamId") Long teamId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Match m set m.winningTeam = null where m.winningTeam.id = :teamId")
+    int unlinkWinningTeam(@Param("teamId") Long teamId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Match m set m.blueTeam = null, m.redTeam = null, m.winningTeam = null")
+    int unlinkAllTeams();
+}
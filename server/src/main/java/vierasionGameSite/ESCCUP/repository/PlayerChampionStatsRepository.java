@@ -0,0 +1,31 @@
+package vierasionGameSite.ESCCUP.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import vierasionGameSite.ESCCUP.entity.PlayerChampionStats;
+
+import java.util.List;
+
+public interface PlayerChampionStatsRepository extends JpaRepository<PlayerChampionStats, Long> {
+
+    // 많이 한 챔피언 순 (uk_player_champion 인덱스의 player_id로 조회)
+    List<PlayerChampionStats> findByPlayerIdOrderByGamesDescWinsDesc(Long playerId);
+
+    @Modifying
+    @Query(value = "insert into player_champion_stats (player_id, champion_name, games, wins)" +
+            " values (:playerId, :championName, :games, :wins)" +
+            " on duplicate key update games = games + values(games), wins = wins + values(wins)",
+            nativeQuery = true)
+    void addDelta(@Param("playerId") Long playerId, @Param("championName") String championName,
+                  @Param("games") int games, @Param("wins") int wins);
+
+    @Modifying
+    @Query("delete from PlayerChampionStats c where c.games <= 0")
+    int deleteEmpty();
+
+    @Modifying
+    @Query("delete from PlayerChampionStats c where c.playerId = :playerId")
+    int deleteByPlayer(@Param("playerId") Long playerId);
+}
@@ -3,10 +3,46 @@
 package vierasionGameSite.ESCCUP.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import vierasionGameSite.ESCCUP.entity.Player;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface PlayerRepository extends JpaRepository<Player, Long> {
+public interface PlayerRepository extends JpaRepository<Player, Long>, JpaSpecificationExecutor<Player> {
     Optional<Player> findByName(String name);
-}
\ No newline at end of file
+
+    // 티어 서열이 아직 계산되지 않은 선수 (컬럼 추가 전에 등록된 선수)
+    List<Player> findByTierOrdinalIsNull();
+
+    // 여러 선수를 한 번에 조회 (소속 팀까지 같이 가져와서 지연 로딩 방지)
+    @Query("select p from Player p left join fetch p.team where p.id in :ids")
+    List<Player> findAllWithTeamByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 대기 명단 (team_id IS NULL, idx_players_team_id 사용)
+    List<Player> findByTeamIsNull();
+
+    // 팀 인원 수 (드래프트 정원 체크용)
+    long countByTeam_Id(Long teamId);
+
+    // --- 삭제용 일괄 UPDATE (실행 후 영속성 컨텍스트 비움) ---
+
+    // 특정 팀 소속 선수 전원 방출
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Player p set p.team = null where p.team.id = :teamId")
+    int releaseFromTeam(@Param("teamId") Long teamId);
+
+    // 모든 선수 방출
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Player p set p.team = null where p.team is not null")
+    int releaseAll();
+
+    // 경기 상세 기록의 선수 연결 끊기 (기록에는 playerName 스냅샷이 남음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update MatchDetail d set d.player = null where d.player is not null")
+    int unlinkAllFromMatchDetails();
+}
@@ -0,0 +1,48 @@
+package vierasionGameSite.ESCCUP.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import vierasionGameSite.ESCCUP.entity.Player;
+
+import java.util.Locale;
+
+// 선수 목록 검색 조건 (PlayerRepository.findAll(Specification, Pageable)과 같이 사용)
+public final class PlayerSpecifications {
+
+    private PlayerSpecifications() {
+    }
+
+    // 티어 서열 범위 (min/max 중 null인 쪽은 제한 없음)
+    public static Specification<Player> tierBetween(Integer min, Integer max) {
+        return (root, query, cb) -> {
+            if (min != null && max != null) return cb.between(root.get("tierOrdinal"), min, max);
+            if (min != null) return cb.greaterThanOrEqualTo(root.get("tierOrdinal"), min);
+            if (max != null) return cb.lessThanOrEqualTo(root.get("tierOrdinal"), max);
+            return null;
+        };
+    }
+
+    // 포지션 ("MID"면 "MID/ADC"처럼 여러 포지션을 적은 선수도 포함)
+    public static Specification<Player> positionContains(String position) {
+        return (root, query, cb) -> position == null || position.isBlank() ? null
+                : cb.like(cb.upper(root.get("position")), "%" + position.trim().toUpperCase(Locale.ROOT) + "%");
+    }
+
+    // 이름 일부 (대소문자 무시)
+    public static Specification<Player> nameContains(String q) {
+        return (root, query, cb) -> q == null || q.isBlank() ? null
+                : cb.like(cb.lower(root.get("name")), "%" + q.trim().toLowerCase(Locale.ROOT) + "%");
+    }
+
+    // 소속 팀 (team_id 컬럼만 비교, 팀 테이블 조인 없음)
+    public static Specification<Player> inTeam(Long teamId) {
+        return (root, query, cb) -> teamId == null ? null : cb.equal(root.get("team").get("id"), teamId);
+    }
+
+    // true: 대기 명단만, false: 팀에 속한 선수만, null: 전체
+    public static Specification<Player> standby(Boolean standby) {
+        return (root, query, cb) -> {
+            if (standby == null) return null;
+            return standby ? cb.isNull(root.get("team")) : cb.isNotNull(root.get("team"));
+        };
+    }
+}
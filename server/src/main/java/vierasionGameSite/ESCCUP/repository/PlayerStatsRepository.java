@@ -0,0 +1,28 @@
+package vierasionGameSite.ESCCUP.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import vierasionGameSite.ESCCUP.entity.PlayerStats;
+
+public interface PlayerStatsRepository extends JpaRepository<PlayerStats, Long> {
+
+    // 증감 반영 (행이 없으면 만들고, 있으면 더함) - MySQL upsert 한 문장
+    @Modifying
+    @Query(value = "insert into player_stats (player_id, games, wins, kills, deaths, assists, total_damage, total_gold, total_cs)" +
+            " values (:playerId, :games, :wins, :kills, :deaths, :assists, :damage, :gold, :cs)" +
+            " on duplicate key update games = games + values(games), wins = wins + values(wins)," +
+            " kills = kills + values(kills), deaths = deaths + values(deaths), assists = assists + values(assists)," +
+            " total_damage = total_damage + values(total_damage), total_gold = total_gold + values(total_gold)," +
+            " total_cs = total_cs + values(total_cs)",
+            nativeQuery = true)
+    void addDelta(@Param("playerId") Long playerId, @Param("games") int games, @Param("wins") int wins,
+                  @Param("kills") long kills, @Param("deaths") long deaths, @Param("assists") long assists,
+                  @Param("damage") long damage, @Param("gold") long gold, @Param("cs") long cs);
+
+    // 되돌리기 후 경기 수가 0이 된 행 정리
+    @Modifying
+    @Query("delete from PlayerStats s where s.games <= 0")
+    int deleteEmpty();
+}
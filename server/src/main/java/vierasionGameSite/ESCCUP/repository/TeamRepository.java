@@ -3,7 +3,20 @@
 package vierasionGameSite.ESCCUP.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import vierasionGameSite.ESCCUP.entity.Team;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface TeamRepository extends JpaRepository<Team, Long> {
-}
\ No newline at end of file
+
+    // 여러 팀을 소속 선수 목록까지 한 번에 조회 (선수 목록 지연 로딩 방지)
+    @Query("select distinct t from Team t left join fetch t.players where t.id in :ids")
+    List<Team> findAllWithPlayersByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 드래프트 보드용: 전체 팀 + 소속 선수 (표시 순서대로)
+    @Query("select distinct t from Team t left join fetch t.players order by t.displayOrder, t.id")
+    List<Team> findAllWithPlayers();
+}
@@ -0,0 +1,196 @@
+package vierasionGameSite.ESCCUP.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import vierasionGameSite.ESCCUP.repository.MatchRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 토너먼트 대진표 생성기
+// - 참가 팀 수(2~64)를 받아 2의 거듭제곱 크기로 대진표 전체를 메모리에서 먼저 구성
+// - 빈 자리는 상위 시드 상대에 부전승(BYE)으로 배치
+// - 저장은 JDBC 배치 INSERT 한 번 + 다음 경기 ID 연결 배치 UPDATE 한 번 (64강도 경기 수와 무관하게 왕복 2회)
+@Service
+@RequiredArgsConstructor
+public class BracketGenerator {
+
+    public static final int MAX_TEAMS = 64;
+    public static final String STATUS_BYE = "BYE";
+
+    private final MatchRepository matchRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 대진표 한 칸 (저장 전 메모리 표현)
+    private static class Node {
+        final int round;       // 8 (8강), 4 (4강), 2 (결승)
+        final int matchOrder;  // 라운드 안에서 위에서부터 1, 2, 3...
+        Node next;             // 승자가 올라갈 경기
+        Long blueTeamId;
+        Long redTeamId;
+        Long winnerTeamId;
+        String status = "SCHEDULED";
+        Long id;
+
+        Node(int round, int matchOrder) {
+            this.round = round;
+            this.matchOrder = matchOrder;
+        }
+
+        String stage() {
+            if (round == 2) return "결승전";
+            String stage = round + "강 " + matchOrder + "경기";
+            return STATUS_BYE.equals(status) ? stage + " (부전승)" : stage;
+        }
+    }
+
+    // 기존 토너먼트 경기를 지우고 새 대진표 생성, 생성된 경기 수 반환
+    // seedTeamIds가 있으면 1번 시드부터 순서대로 1라운드에 배치하고, 부전승 팀은 바로 다음 라운드로 올림
+    @Transactional
+    public int generate(int teamCount, List<Long> seedTeamIds) {
+        if (seedTeamIds != null && !seedTeamIds.isEmpty()) {
+            if (seedTeamIds.stream().distinct().count() != seedTeamIds.size()) {
+                throw new IllegalArgumentException("같은 팀이 두 번 들어있습니다.");
+            }
+            teamCount = seedTeamIds.size();
+        }
+        if (teamCount < 2 || teamCount > MAX_TEAMS) {
+            throw new IllegalArgumentException("참가 팀 수는 2~" + MAX_TEAMS + " 사이여야 합니다: " + teamCount);
+        }
+
+        long start = System.currentTimeMillis();
+        List<Node> nodes = build(teamCount, seedTeamIds);
+
+        // 기존 토너먼트 데이터만 삭제 (일반 전적 보호), JDBC INSERT 전에 DB에 먼저 반영
+        matchRepository.deleteBracketMatchDetails();
+        matchRepository.deleteBracketMatches();
+
+        insertAll(nodes);
+        linkNextMatches(nodes);
+
+        System.out.println("====== [Bracket] " + teamCount + "팀 대진표 생성: 경기 " + nodes.size() + "개, "
+                + (System.currentTimeMillis() - start) + "ms ======");
+        return nodes.size();
+    }
+
+    // 1. 메모리에서 대진표 구성 (1라운드 → 결승 순서로 리스트에 담김)
+    private List<Node> build(int teamCount, List<Long> seedTeamIds) {
+        int size = Integer.highestOneBit(teamCount - 1) << 1; // teamCount 이상인 가장 작은 2의 거듭제곱
+        int[] seeds = seedOrder(size);
+
+        List<Node> nodes = new ArrayList<>(size - 1);
+        List<Node> current = new ArrayList<>();
+        for (int i = 0; i < size / 2; i++) {
+            Node node = new Node(size, i + 1);
+            int blueSeed = seeds[2 * i];
+            int redSeed = seeds[2 * i + 1];
+            if (seedTeamIds != null && !seedTeamIds.isEmpty()) {
+                node.blueTeamId = blueSeed <= teamCount ? seedTeamIds.get(blueSeed - 1) : null;
+                node.redTeamId = redSeed <= teamCount ? seedTeamIds.get(redSeed - 1) : null;
+            }
+            // 시드 배치상 부전승 자리는 항상 아래쪽(red), 상대는 상위 시드
+            if (redSeed > teamCount) {
+                node.status = STATUS_BYE;
+                node.winnerTeamId = node.blueTeamId;
+            }
+            current.add(node);
+        }
+        nodes.addAll(current);
+
+        for (int round = size / 2; round >= 2; round /= 2) {
+            List<Node> upper = new ArrayList<>(round / 2);
+            for (int i = 0; i < round / 2; i++) {
+                upper.add(new Node(round, i + 1));
+            }
+            for (Node node : current) {
+                node.next = upper.get((node.matchOrder - 1) / 2);
+                // 홀수번째 경기 승자는 다음 경기 BLUE, 짝수번째는 RED (BracketGraph.slotOf 진출 규칙과 동일)
+                if (node.winnerTeamId != null) {
+                    if (node.matchOrder % 2 != 0) node.next.blueTeamId = node.winnerTeamId;
+                    else node.next.redTeamId = node.winnerTeamId;
+                }
+            }
+            nodes.addAll(upper);
+            current = upper;
+        }
+        return nodes;
+    }
+
+    // 표준 시드 배치 순서 (8강: 1,8,4,5,2,7,3,6 → 1번과 2번 시드는 결승에서만 만남)
+    static int[] seedOrder(int size) {
+        int[] order = {1};
+        while (order.length < size) {
+            int n = order.length * 2;
+            int[] next = new int[n];
+            for (int i = 0; i < order.length; i++) {
+                next[2 * i] = order[i];
+                next[2 * i + 1] = n + 1 - order[i];
+            }
+            order = next;
+        }
+        return order;
+    }
+
+    // 2. 배치 INSERT 한 번으로 전체 저장, 생성된 ID를 노드에 채움
+    private void insertAll(List<Node> nodes) {
+        String sql = "insert into matches (round, match_order, stage, status, blue_team_id, red_team_id, winner_team_id, match_date,"
+                + " queue_id, blue_baron_kills, blue_dragon_kills, blue_tower_kills, red_baron_kills, red_dragon_kills, red_tower_kills)"
+                + " values (?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0, 0, 0, 0)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Node node = nodes.get(i);
+                        ps.setInt(1, node.round);
+                        ps.setInt(2, node.matchOrder);
+                        ps.setString(3, node.stage());
+                        ps.setString(4, node.status);
+                        setLong(ps, 5, node.blueTeamId);
+                        setLong(ps, 6, node.redTeamId);
+                        setLong(ps, 7, node.winnerTeamId);
+                        ps.setTimestamp(8, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return nodes.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != nodes.size()) {
+            throw new RuntimeException("대진표 저장 실패: 생성된 ID 수가 맞지 않습니다 (" + keys.size() + "/" + nodes.size() + ")");
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            nodes.get(i).id = ((Number) keys.get(i).values().iterator().next()).longValue();
+        }
+    }
+
+    // 3. 다음 경기 ID 연결 (배치 UPDATE 한 번)
+    private void linkNextMatches(List<Node> nodes) {
+        List<Object[]> links = new ArrayList<>(nodes.size());
+        for (Node node : nodes) {
+            if (node.next != null) links.add(new Object[]{node.next.id, node.id});
+        }
+        jdbcTemplate.batchUpdate("update matches set next_match_id = ? where id = ?", links);
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.BIGINT);
+        else ps.setLong(index, value);
+    }
+}
@@ -0,0 +1,311 @@
+package vierasionGameSite.ESCCUP.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import vierasionGameSite.ESCCUP.component.AfterCommit;
+import vierasionGameSite.ESCCUP.dto.MatchDto;
+import vierasionGameSite.ESCCUP.entity.Match;
+import vierasionGameSite.ESCCUP.entity.Team;
+import vierasionGameSite.ESCCUP.repository.MatchRepository;
+import vierasionGameSite.ESCCUP.repository.TeamRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 토너먼트 대진표 그래프 (메모리)
+// - round가 있는 경기들을 nextMatchId 트리로 들고 있음 → 팀 배치/승리 처리 시 DB를 다시 읽지 않고 영향 범위 계산
+// - 결과를 바꾸면 그 승자가 올라가 있던 이후 라운드 경기들의 배치/결과를 연쇄로 되돌림
+// - 변경은 lock 안에서 (계산 → 한 트랜잭션으로 저장 → 메모리 반영) 순서로 처리해서 동시 요청이 섞이지 않음
+// - 대진표 조회는 메모리에서 바로 조립
+@Service
+@RequiredArgsConstructor
+public class BracketGraph {
+
+    private final MatchRepository matchRepository;
+    private final TeamRepository teamRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MatchAnalyticsStore matchAnalyticsStore;
+
+    // 아래 필드는 lock 안에서만 변경
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<Long, Node> nodes = new HashMap<>();
+    private Map<Long, String> teamNames = new HashMap<>();
+
+    // 대진표 한 칸 (변경 시에는 복사본을 고쳐서 통째로 교체)
+    private static class Node {
+        final long id;
+        final int round;
+        final int matchOrder;
+        final Long nextMatchId;
+        final String stage;
+        final List<Long> feeders = new ArrayList<>(); // 이 경기로 승자를 올려보내는 경기 (matchOrder 순)
+        Long blueTeamId;
+        Long redTeamId;
+        Long winnerTeamId;
+        String score;
+        String status;
+
+        Node(long id, int round, int matchOrder, Long nextMatchId, String stage) {
+            this.id = id;
+            this.round = round;
+            this.matchOrder = matchOrder;
+            this.nextMatchId = nextMatchId;
+            this.stage = stage;
+        }
+
+        Node copy() {
+            Node n = new Node(id, round, matchOrder, nextMatchId, stage);
+            n.feeders.addAll(feeders);
+            n.blueTeamId = blueTeamId;
+            n.redTeamId = redTeamId;
+            n.winnerTeamId = winnerTeamId;
+            n.score = score;
+            n.status = status;
+            return n;
+        }
+
+        boolean hasTeam(Long teamId) {
+            return teamId != null && (teamId.equals(blueTeamId) || teamId.equals(redTeamId));
+        }
+
+        void clearResult() {
+            winnerTeamId = null;
+            score = null;
+            status = "SCHEDULED";
+        }
+    }
+
+    // 변경 결과 (컨트롤러에서 실시간 알림용)
+    public record Change(List<Long> changedMatchIds, Long advancedToMatchId, String advancedSide, List<Long> revertedMatchIds) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        lock.lock();
+        try {
+            List<Match> matches = matchRepository.findBracketWithTeams();
+            Map<Long, Node> loaded = new HashMap<>();
+            Map<Long, String> names = new HashMap<>();
+            for (Match m : matches) {
+                Node node = new Node(m.getId(), m.getRound(), m.getMatchOrder() != null ? m.getMatchOrder() : 0,
+                        m.getNextMatchId(), m.getStage());
+                node.blueTeamId = teamId(m.getBlueTeam(), names);
+                node.redTeamId = teamId(m.getRedTeam(), names);
+                node.winnerTeamId = teamId(m.getWinningTeam(), names);
+                node.score = m.getScore();
+                node.status = m.getStatus();
+                loaded.put(node.id, node);
+            }
+            // 정렬된 순서(라운드 내림차순, matchOrder 오름차순)대로 붙이므로 feeders도 matchOrder 순
+            for (Match m : matches) {
+                Node parent = m.getNextMatchId() != null ? loaded.get(m.getNextMatchId()) : null;
+                if (parent != null) parent.feeders.add(m.getId());
+            }
+            nodes = loaded;
+            teamNames = names;
+            System.out.println("====== [BracketGraph] 대진표 경기 " + loaded.size() + "개 적재 ======");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 대진표 생성/경기 삭제/팀 이름 변경처럼 그래프 밖에서 바뀐 경우 - 트랜잭션 안이면 커밋 후 다시 적재
+    public void reloadAfterCommit() {
+        AfterCommit.run(this::reload);
+    }
+
+    public boolean contains(Long matchId) {
+        lock.lock();
+        try {
+            return nodes.containsKey(matchId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 팀 배치 + 승리 처리를 한 번에 (관리자 경기 수정 한 건 = 트랜잭션 한 번)
+    // - 팀 배치: null이면 그 진영은 그대로, 이미 결과가 있는데 팀이 바뀌면 결과와 이후 진출을 되돌림
+    // - 승리 처리: 승자를 다음 경기로 올리고, 결과가 바뀐 경우 이전 승자가 올라가 있던 이후 경기들을 되돌림
+    // - 검증에 실패하면 아무것도 저장하지 않음 (메모리/DB 모두 그대로)
+    public Change update(Long matchId, Long blueTeamId, Long redTeamId, Long winnerTeamId, String score) {
+        lock.lock();
+        try {
+            Map<Long, Node> work = new LinkedHashMap<>();
+            Node node = editable(work, matchId);
+            List<Long> reverted = new ArrayList<>();
+            if (blueTeamId != null || redTeamId != null) {
+                placeTeams(work, node, blueTeamId, redTeamId, reverted);
+            }
+
+            Long advancedTo = null;
+            String side = null;
+            if (winnerTeamId != null && setWinner(work, node, winnerTeamId, score, reverted)) {
+                reverted.remove(Long.valueOf(node.id)); // 배치 때문에 지웠던 결과를 바로 다시 채운 경우
+                if (node.nextMatchId != null && nodes.containsKey(node.nextMatchId)) {
+                    advancedTo = node.nextMatchId;
+                    side = slotOf(node) == 0 ? "BLUE" : "RED";
+                }
+            }
+            commit(work);
+            return new Change(List.copyOf(work.keySet()), advancedTo, side, reverted);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void placeTeams(Map<Long, Node> work, Node node, Long blueTeamId, Long redTeamId, List<Long> reverted) {
+        if (blueTeamId != null) node.blueTeamId = blueTeamId;
+        if (redTeamId != null) node.redTeamId = redTeamId;
+        if (node.winnerTeamId != null && !node.hasTeam(node.winnerTeamId)) {
+            node.clearResult();
+            reverted.add(node.id);
+            cascade(work, node, null, reverted);
+        }
+    }
+
+    // 승자가 바뀌었으면 true (다음 경기로 진출 처리됨)
+    private boolean setWinner(Map<Long, Node> work, Node node, Long winnerTeamId, String score, List<Long> reverted) {
+        if (!node.hasTeam(winnerTeamId)) {
+            throw new IllegalArgumentException("이 경기에 배치되지 않은 팀입니다: " + winnerTeamId);
+        }
+        Long oldWinner = node.winnerTeamId;
+        node.winnerTeamId = winnerTeamId;
+        node.score = score;
+        node.status = "FINISHED";
+        if (winnerTeamId.equals(oldWinner)) return false;
+        cascade(work, node, winnerTeamId, reverted);
+        return true;
+    }
+
+    // 조립된 대진표 (라운드 내림차순, 라운드 안에서는 matchOrder 순)
+    public List<MatchDto> tree() {
+        lock.lock();
+        try {
+            return nodes.values().stream()
+                    .sorted(Comparator.comparingInt((Node n) -> -n.round).thenComparingInt(n -> n.matchOrder))
+                    .map(this::toDto)
+                    .toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 라운드별로 묶은 대진표 { 8: [...], 4: [...], 2: [...] }
+    public Map<Integer, List<MatchDto>> rounds() {
+        return tree().stream().collect(Collectors.groupingBy(MatchDto::getRound,
+                () -> new TreeMap<>(Comparator.reverseOrder()), Collectors.toList()));
+    }
+
+    // node의 승자가 newWinner로 바뀜(null이면 취소): 다음 경기 자리를 바꾸고, 다음 경기에 결과가 있었으면 그것도 되돌리면서 위로 올라감
+    private void cascade(Map<Long, Node> work, Node node, Long newWinner, List<Long> reverted) {
+        Node child = node;
+        Long replacement = newWinner;
+        while (child.nextMatchId != null && nodes.containsKey(child.nextMatchId)) {
+            Node parent = editable(work, child.nextMatchId);
+            if (slotOf(child) == 0) parent.blueTeamId = replacement;
+            else parent.redTeamId = replacement;
+
+            // 다음 경기에 결과가 없으면 여기서 끝
+            if (parent.winnerTeamId == null) return;
+            parent.clearResult();
+            reverted.add(parent.id);
+            // 되돌린 경기의 승자가 올라가 있던 자리는 비움
+            child = parent;
+            replacement = null;
+        }
+    }
+
+    // 다음 경기에서 이 경기 승자가 들어갈 자리 (0: BLUE, 1: RED)
+    // 다음 경기로 올라오는 경기 중 matchOrder가 앞선 쪽이 BLUE
+    private int slotOf(Node child) {
+        Node parent = nodes.get(child.nextMatchId);
+        int index = parent.feeders.indexOf(child.id);
+        if (index >= 0 && parent.feeders.size() == 2) return index;
+        return child.matchOrder % 2 != 0 ? 0 : 1; // 예전 규칙: 홀수번째 경기 → BLUE
+    }
+
+    private Node editable(Map<Long, Node> work, Long matchId) {
+        Node edited = work.get(matchId);
+        if (edited != null) return edited;
+        Node node = nodes.get(matchId);
+        if (node == null) throw new IllegalArgumentException("대진표에 없는 경기입니다: " + matchId);
+        edited = node.copy();
+        work.put(matchId, edited);
+        return edited;
+    }
+
+    // 바뀐 경기들을 한 트랜잭션으로 저장 (경기 1번 + 팀 1번 조회), 성공하면 메모리 교체
+    private void commit(Map<Long, Node> work) {
+        if (work.isEmpty()) return;
+        Set<Long> teamIds = new HashSet<>();
+        for (Node n : work.values()) {
+            if (n.blueTeamId != null) teamIds.add(n.blueTeamId);
+            if (n.redTeamId != null) teamIds.add(n.redTeamId);
+            if (n.winnerTeamId != null) teamIds.add(n.winnerTeamId);
+        }
+
+        Map<Long, Team> teams = transactionTemplate.execute(status -> {
+            Map<Long, Team> found = teamRepository.findAllById(teamIds).stream()
+                    .collect(Collectors.toMap(Team::getId, Function.identity()));
+            if (found.size() != teamIds.size()) {
+                Set<Long> missing = new LinkedHashSet<>(teamIds);
+                missing.removeAll(found.keySet());
+                throw new IllegalArgumentException("존재하지 않는 팀입니다: " + missing);
+            }
+            for (Match m : matchRepository.findAllById(work.keySet())) {
+                Node n = work.get(m.getId());
+                m.setBlueTeam(n.blueTeamId != null ? found.get(n.blueTeamId) : null);
+                m.setRedTeam(n.redTeamId != null ? found.get(n.redTeamId) : null);
+                m.recordWinner(n.winnerTeamId != null ? found.get(n.winnerTeamId) : null);
+                m.setScore(n.score);
+                m.setStatus(n.status);
+                matchAnalyticsStore.upsert(m);
+            }
+            return found;
+        });
+
+        Map<Long, Node> next = new HashMap<>(nodes);
+        next.putAll(work);
+        nodes = next;
+        Map<Long, String> names = new HashMap<>(teamNames);
+        teams.values().forEach(t -> names.put(t.getId(), t.getName()));
+        teamNames = names;
+    }
+
+    private MatchDto toDto(Node n) {
+        MatchDto dto = new MatchDto();
+        dto.setId(n.id);
+        dto.setStage(n.stage);
+        dto.setRound(n.round);
+        dto.setMatchOrder(n.matchOrder);
+        dto.setNextMatchId(n.nextMatchId);
+        dto.setScore(n.score);
+        dto.setStatus(n.status);
+        dto.setBlueTeamId(n.blueTeamId);
+        dto.setBlueTeamName(n.blueTeamId != null ? teamNames.get(n.blueTeamId) : "Blue Team");
+        dto.setRedTeamId(n.redTeamId);
+        dto.setRedTeamName(n.redTeamId != null ? teamNames.get(n.redTeamId) : "Red Team");
+        dto.setWinnerTeamId(n.winnerTeamId);
+        return dto;
+    }
+
+    private static Long teamId(Team team, Map<Long, String> names) {
+        if (team == null) return null;
+        names.put(team.getId(), team.getName());
+        return team.getId();
+    }
+}
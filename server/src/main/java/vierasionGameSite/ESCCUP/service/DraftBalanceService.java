@@ -0,0 +1,293 @@
+package vierasionGameSite.ESCCUP.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import vierasionGameSite.ESCCUP.dto.AssignRequest;
+import vierasionGameSite.ESCCUP.entity.Player;
+import vierasionGameSite.ESCCUP.entity.Team;
+import vierasionGameSite.ESCCUP.entity.Tier;
+import vierasionGameSite.ESCCUP.repository.PlayerRepository;
+import vierasionGameSite.ESCCUP.repository.TeamRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+// 드래프트 자동 밸런스
+// - 티어(현재/최고)를 점수로 바꾸고, 팀 평균 점수 차이가 가장 작아지도록 선수를 나눔
+// - 팀마다 TOP/JUG/MID/ADC/SUP를 채울 수 있는지도 비용에 포함 (포지션 하나 못 채우면 POSITION_PENALTY점)
+// - 코어 수만큼 서로 다른 시작점에서 담금질(두 선수 맞바꾸기)을 전용 스레드에서 동시에 돌리고 시간이 다 되면 가장 좋은 결과 선택
+// - DB는 계산 전에 짧은 읽기 트랜잭션으로 한 번만 읽음 (계산하는 동안 트랜잭션을 열어 두지 않음)
+// - 결과는 AssignRequest 목록 그대로 DraftService.assignAllPlayers(/api/draft/assign/all)에 넣으면 적용됨
+@Service
+@RequiredArgsConstructor
+public class DraftBalanceService {
+
+    public static final int TEAM_SIZE = 5;                 // 팀 정원 (DraftBoardHub와 동일)
+    private static final String[] ROLES = {"TOP", "JUG", "MID", "ADC", "SUP"};
+    private static final int ALL_ROLES = (1 << ROLES.length) - 1;
+    private static final double POSITION_PENALTY = 400;    // 디비전 4개 차이와 같은 무게
+    private static final double UNRANKED_RATING = 1200;    // 티어 정보가 없으면 골드 4로 봄
+    private static final long MAX_BUDGET_MILLIS = 10_000;
+
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 담금질 전용 스레드 (CPU만 쓰는 계산이라 코어 수만큼의 플랫폼 스레드, 공용 ForkJoinPool은 건드리지 않음)
+    private final int workers = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private final ExecutorService solver = Executors.newFixedThreadPool(workers,
+            Thread.ofPlatform().name("draft-balance-", 0).daemon().factory());
+
+    // 밸런스 결과 (같은 인덱스 = 같은 선수), startCost = 담금질 시작 배정의 비용
+    record Solution(int[] teamOf, double cost, double startCost) {
+    }
+
+    // DB에서 읽어 둔 값 (계산 중에는 엔티티를 들고 있지 않음)
+    private record Snapshot(List<Long> teamIds, List<Long> playerIds, List<Long> standbyIds, double[] rating, int[] roles) {
+    }
+
+    public List<AssignRequest> propose(long budgetMillis) {
+        long budget = Math.max(100, Math.min(budgetMillis, MAX_BUDGET_MILLIS));
+        Snapshot input = load();
+        int n = input.playerIds().size();
+        int teamCount = input.teamIds().size();
+
+        long start = System.currentTimeMillis();
+        Solution best = solve(input.rating(), input.roles(), teamCount, start + budget, Long.MAX_VALUE, start, workers, solver);
+
+        List<AssignRequest> result = new ArrayList<>(n + input.standbyIds().size());
+        for (int i = 0; i < n; i++) {
+            result.add(assign(input.playerIds().get(i), input.teamIds().get(best.teamOf()[i])));
+        }
+        for (Long id : input.standbyIds()) {
+            result.add(assign(id, null));
+        }
+        System.out.println("====== [DraftBalance] 선수 " + n + "명 → " + teamCount + "팀, 비용 "
+                + Math.round(best.cost()) + ", 탐색 " + workers + "개, " + (System.currentTimeMillis() - start) + "ms ======");
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        solver.shutdownNow();
+    }
+
+    // 짧은 읽기 트랜잭션 하나로 팀 순서 + 선수 점수/포지션만 뽑아 둠
+    private Snapshot load() {
+        TransactionTemplate read = new TransactionTemplate(transactionManager);
+        read.setReadOnly(true);
+        return read.execute(status -> {
+            List<Long> teamIds = teamRepository.findAll(Sort.by("displayOrder", "id")).stream().map(Team::getId).toList();
+            if (teamIds.isEmpty()) throw new IllegalArgumentException("팀이 없습니다.");
+
+            // 정원보다 선수가 많으면 등록 순서대로 정원까지만 배정하고 나머지는 대기 명단
+            List<Player> all = playerRepository.findAll(Sort.by("id"));
+            int n = Math.min(all.size(), teamIds.size() * TEAM_SIZE);
+            double[] rating = new double[n];
+            int[] roles = new int[n];
+            List<Long> playerIds = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                Player p = all.get(i);
+                playerIds.add(p.getId());
+                rating[i] = rating(p);
+                roles[i] = roleMask(p.getPosition());
+            }
+            List<Long> standbyIds = all.subList(n, all.size()).stream().map(Player::getId).toList();
+            return new Snapshot(teamIds, playerIds, standbyIds, rating, roles);
+        });
+    }
+
+    // 서로 다른 시작점(seed)에서 담금질을 workers개 동시에 돌리고 가장 좋은 결과 선택
+    // 팀별 인원은 최대한 고르게 (앞쪽 팀부터 1명씩 더)
+    // 시간(deadline)과 맞바꾸기 횟수(maxSteps) 중 먼저 닿는 쪽에서 멈춤 (시간 제한 없이 횟수만 주면 seed별로 결과가 항상 같음)
+    static Solution solve(double[] rating, int[] roles, int teamCount, long deadline, long maxSteps, long seed,
+                          int workers, ExecutorService executor) {
+        int n = rating.length;
+        int[] sizes = new int[teamCount];
+        for (int t = 0; t < teamCount; t++) {
+            sizes[t] = n / teamCount + (t < n % teamCount ? 1 : 0);
+        }
+
+        List<Future<Solution>> runs = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            SplittableRandom random = new SplittableRandom(seed * 31 + w);
+            runs.add(executor.submit(() -> anneal(rating, roles, sizes, deadline, maxSteps, random)));
+        }
+        Solution best = null;
+        try {
+            for (Future<Solution> run : runs) {
+                Solution s = run.get();
+                if (best == null || s.cost() < best.cost()) best = s;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("자동 밸런스 계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("자동 밸런스 계산 실패: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            runs.forEach(run -> run.cancel(true));
+        }
+        return best;
+    }
+
+    // 담금질 한 번: 무작위 배정에서 시작해 서로 다른 팀 두 선수를 맞바꾸며 비용을 줄임
+    private static Solution anneal(double[] rating, int[] roles, int[] sizes, long deadline, long maxSteps,
+                                   SplittableRandom random) {
+        int n = rating.length;
+        int teamCount = sizes.length;
+        int[] teamOf = new int[n];
+        int[][] members = new int[teamCount][];
+        int[] order = IntStream.range(0, n).toArray();
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        int k = 0;
+        for (int t = 0; t < teamCount; t++) {
+            members[t] = new int[sizes[t]];
+            for (int s = 0; s < sizes[t]; s++) {
+                members[t][s] = order[k];
+                teamOf[order[k++]] = t;
+            }
+        }
+
+        double[] sum = new double[teamCount];
+        int[] missing = new int[teamCount];
+        for (int t = 0; t < teamCount; t++) {
+            for (int p : members[t]) sum[t] += rating[p];
+            missing[t] = missingRoles(members[t], roles);
+        }
+        double cost = cost(sum, missing, sizes);
+        int[] bestTeamOf = teamOf.clone();
+        double bestCost = cost;
+        double startCost = cost;
+        if (n < 2 || teamCount < 2) return new Solution(bestTeamOf, bestCost, startCost);
+
+        long started = System.currentTimeMillis();
+        long total = Math.max(1, deadline - started);
+        double temperature = 200;
+        for (long iter = 0; ; iter++) {
+            // 시간/횟수는 1024번마다 확인, 온도는 남은 시간과 남은 횟수 중 적은 쪽에 비례해서 낮춤
+            if ((iter & 1023) == 0) {
+                long now = System.currentTimeMillis();
+                if (now >= deadline || iter >= maxSteps || bestCost == 0) break;
+                double left = Math.min((deadline - now) / (double) total, 1 - iter / (double) maxSteps);
+                temperature = 200 * left;
+            }
+            int ta = random.nextInt(teamCount);
+            int tb = random.nextInt(teamCount - 1);
+            if (tb >= ta) tb++;
+            if (members[ta].length == 0 || members[tb].length == 0) continue;
+            int sa = random.nextInt(members[ta].length);
+            int sb = random.nextInt(members[tb].length);
+            int pa = members[ta][sa];
+            int pb = members[tb][sb];
+
+            // 맞바꾸기 적용 후 비용 계산, 나빠졌으면 확률적으로만 유지
+            members[ta][sa] = pb;
+            members[tb][sb] = pa;
+            double oldSumA = sum[ta], oldSumB = sum[tb];
+            int oldMissA = missing[ta], oldMissB = missing[tb];
+            sum[ta] += rating[pb] - rating[pa];
+            sum[tb] += rating[pa] - rating[pb];
+            missing[ta] = missingRoles(members[ta], roles);
+            missing[tb] = missingRoles(members[tb], roles);
+            double next = cost(sum, missing, sizes);
+
+            double delta = next - cost;
+            if (delta <= 0 || random.nextDouble() < Math.exp(-delta / Math.max(temperature, 1e-3))) {
+                cost = next;
+                teamOf[pa] = tb;
+                teamOf[pb] = ta;
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    bestTeamOf = teamOf.clone();
+                }
+            } else {
+                members[ta][sa] = pa;
+                members[tb][sb] = pb;
+                sum[ta] = oldSumA;
+                sum[tb] = oldSumB;
+                missing[ta] = oldMissA;
+                missing[tb] = oldMissB;
+            }
+        }
+        return new Solution(bestTeamOf, bestCost, startCost);
+    }
+
+    // 비용 = (가장 강한 팀 평균 - 가장 약한 팀 평균) + 못 채운 포지션 수 × POSITION_PENALTY
+    private static double cost(double[] sum, int[] missing, int[] sizes) {
+        double max = Double.NEGATIVE_INFINITY, min = Double.POSITIVE_INFINITY;
+        int totalMissing = 0;
+        for (int t = 0; t < sum.length; t++) {
+            totalMissing += missing[t];
+            if (sizes[t] == 0) continue;
+            double avg = sum[t] / sizes[t];
+            if (avg > max) max = avg;
+            if (avg < min) min = avg;
+        }
+        return (max - min) + totalMissing * POSITION_PENALTY;
+    }
+
+    // 팀원들로 채울 수 있는 포지션의 최대 개수를 구해서 못 채우는 수를 반환 (5명 이하라 전수 탐색)
+    private static int missingRoles(int[] team, int[] roles) {
+        int needed = Math.min(team.length, ROLES.length);
+        return needed - bestCover(team, roles, 0, 0);
+    }
+
+    private static int bestCover(int[] team, int[] roles, int index, int used) {
+        if (index == team.length) return 0;
+        int best = bestCover(team, roles, index + 1, used); // 이 선수는 포지션 없이
+        int free = roles[team[index]] & ~used & ALL_ROLES;
+        while (free != 0) {
+            int bit = free & -free;
+            best = Math.max(best, 1 + bestCover(team, roles, index + 1, used | bit));
+            if (best == Math.min(team.length - index, ROLES.length - Integer.bitCount(used))) break; // 더 좋아질 수 없음
+            free &= free - 1;
+        }
+        return best;
+    }
+
+    // 현재 티어 2 : 최고 티어 1 비율, 한쪽만 있으면 그 값 (최고 티어만 있으면 한 디비전 낮춰서)
+    static double rating(Player p) {
+        Integer current = Tier.ratingOf(Tier.ordinalOf(p.getTier()));
+        Integer highest = Tier.ratingOf(Tier.ordinalOf(p.getHighestTier()));
+        if (current != null && highest != null) return (2.0 * current + Math.max(current, highest)) / 3;
+        if (current != null) return current;
+        if (highest != null) return highest - 100;
+        return UNRANKED_RATING;
+    }
+
+    // "TOP", "MID/ADC", "정글", "ALL" → 포지션 비트 (모르는 값이면 아무 포지션이나 가능으로 봄)
+    static int roleMask(String position) {
+        if (position == null || position.isBlank()) return ALL_ROLES;
+        String p = position.toUpperCase(Locale.ROOT);
+        int mask = 0;
+        if (p.contains("TOP") || p.contains("탑")) mask |= 1;
+        if (p.contains("JUG") || p.contains("JUNGLE") || p.contains("JGL") || p.contains("정글")) mask |= 1 << 1;
+        if (p.contains("MID") || p.contains("미드")) mask |= 1 << 2;
+        if (p.contains("ADC") || p.contains("BOT") || p.contains("원딜")) mask |= 1 << 3;
+        if (p.contains("SUP") || p.contains("서폿") || p.contains("서포터")) mask |= 1 << 4;
+        return mask == 0 ? ALL_ROLES : mask;
+    }
+
+    private static AssignRequest assign(Long playerId, Long teamId) {
+        AssignRequest request = new AssignRequest();
+        request.setPlayerId(playerId);
+        request.setTeamId(teamId);
+        return request;
+    }
+}
@@ -0,0 +1,188 @@
+// src/main/java/vierasionGameSite/ESCCUP/service/DraftBoardHub.java
+
+package vierasionGameSite.ESCCUP.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import vierasionGameSite.ESCCUP.component.AfterCommit;
+import vierasionGameSite.ESCCUP.entity.Player;
+import vierasionGameSite.ESCCUP.repository.PlayerRepository;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 드래프트 보드 실시간 공동 편집 (WebSocket /ws/draft)
+// - 선수 한 명 이동(MOVE)마다 DraftService로 바로 저장하고, 보드 버전을 1 올려서 모든 접속자에게 변경분(MOVED)만 전송
+// - 클라이언트는 자기가 본 버전(baseVersion)을 같이 보냄
+//   · 그 뒤로 "같은 선수"가 옮겨졌으면 거절(REJECTED) → 클라이언트가 보드를 다시 불러옴
+//   · 다른 선수만 바뀌었으면 현재 보드 기준으로 그대로 적용 (rebase)
+// - 일괄 저장 / 선수·팀 추가 삭제처럼 REST로 보드가 통째로 바뀌면 RESYNC → 전원 다시 불러오기
+@Service
+@RequiredArgsConstructor
+public class DraftBoardHub {
+
+    private static final int MAX_TEAM_SIZE = 5; // 팀 정원 (DraftPage와 동일)
+    private static final int SEND_TIME_LIMIT_MILLIS = 5000;
+    private static final int SEND_BUFFER_BYTES = 64 * 1024;
+
+    private final DraftService draftService;
+    private final PlayerRepository playerRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 느린 접속자가 전송을 막지 않도록 세션마다 버퍼 + 전송 시간 제한
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    // 아래 필드는 lock 안에서만 접근 (이동 적용 + 버전 증가 + 전송 순서를 하나로 묶음)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Long> lastMoveVersion = new HashMap<>(); // 선수 ID → 마지막으로 옮겨진 버전
+    private long version;
+    private long resyncVersion; // 이 버전보다 오래된 기준의 요청은 무조건 거절
+
+    public void join(WebSocketSession session) {
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MILLIS, SEND_BUFFER_BYTES);
+        lock.lock();
+        try {
+            sessions.put(session.getId(), decorated);
+            send(decorated, message("HELLO", version));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void leave(WebSocketSession session) {
+        sessions.remove(session.getId());
+    }
+
+    // 선수 한 명 이동 (teamId == null 이면 대기 명단으로)
+    public void move(WebSocketSession from, Long playerId, Long teamId, long baseVersion) {
+        WebSocketSession sender = sessions.get(from.getId());
+        lock.lock();
+        try {
+            if (playerId == null) {
+                reject(sender, playerId, "선수 ID가 없습니다.");
+                return;
+            }
+            if (baseVersion > version || baseVersion < resyncVersion) {
+                reject(sender, playerId, "보드가 새로 저장되었습니다. 다시 불러옵니다.");
+                return;
+            }
+            Long movedAt = lastMoveVersion.get(playerId);
+            if (movedAt != null && movedAt > baseVersion) {
+                reject(sender, playerId, "다른 사용자가 먼저 이 선수를 옮겼습니다.");
+                return;
+            }
+
+            List<Player> found = playerRepository.findAllWithTeamByIdIn(List.of(playerId));
+            if (found.isEmpty()) {
+                reject(sender, playerId, "해당 ID의 선수가 없습니다: " + playerId);
+                return;
+            }
+            Long fromTeamId = found.get(0).getTeamId();
+            if (Objects.equals(fromTeamId, teamId)) return; // 제자리 이동
+
+            if (teamId != null && playerRepository.countByTeam_Id(teamId) >= MAX_TEAM_SIZE) {
+                reject(sender, playerId, "팀 정원(" + MAX_TEAM_SIZE + "명)이 찼습니다.");
+                return;
+            }
+
+            draftService.assignPlayerToTeam(playerId, teamId); // 트랜잭션 커밋까지 끝난 뒤 전송
+
+            version++;
+            lastMoveVersion.put(playerId, version);
+
+            Map<String, Object> moved = message("MOVED", version);
+            moved.put("playerId", playerId);
+            moved.put("fromTeamId", fromTeamId);
+            moved.put("teamId", teamId);
+            broadcast(moved);
+        } catch (IllegalArgumentException e) {
+            reject(sender, playerId, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // REST로 보드가 통째로 바뀐 경우 (일괄 저장, 선수/팀 추가·삭제)
+    // 트랜잭션 안에서 부르면 커밋 후에 전송 (커밋 전 데이터를 다시 불러가지 않도록)
+    public void resync() {
+        AfterCommit.run(this::broadcastResync);
+    }
+
+    private void broadcastResync() {
+        lock.lock();
+        try {
+            version++;
+            resyncVersion = version;
+            lastMoveVersion.clear();
+            broadcast(message("RESYNC", version));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long currentVersion() {
+        lock.lock();
+        try {
+            return version;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reject(WebSocketSession sender, Long playerId, String reason) {
+        if (sender == null) return;
+        Map<String, Object> rejected = message("REJECTED", version);
+        rejected.put("playerId", playerId);
+        rejected.put("reason", reason);
+        send(sender, rejected);
+    }
+
+    private Map<String, Object> message(String type, long version) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", type);
+        message.put("version", version);
+        return message;
+    }
+
+    private void broadcast(Map<String, Object> message) {
+        TextMessage text = toText(message);
+        for (WebSocketSession session : sessions.values()) {
+            send(session, text);
+        }
+    }
+
+    private void send(WebSocketSession session, Map<String, Object> message) {
+        send(session, toText(message));
+    }
+
+    private void send(WebSocketSession session, TextMessage text) {
+        try {
+            session.sendMessage(text);
+        } catch (IOException | RuntimeException e) {
+            // 끊겼거나 버퍼/시간 제한 초과 → 세션 정리 (다시 접속하면 HELLO부터)
+            sessions.remove(session.getId());
+            try {
+                session.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private TextMessage toText(Map<String, Object> message) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(message));
+        } catch (IOException e) {
+            throw new RuntimeException("드래프트 메시지 변환 실패", e);
+        }
+    }
+}
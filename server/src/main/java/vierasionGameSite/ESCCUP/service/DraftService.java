@@ -5,6 +5,9 @@ package vierasionGameSite.ESCCUP.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import vierasionGameSite.ESCCUP.component.ResourceVersions;
+import vierasionGameSite.ESCCUP.component.ResourceVersions.Family;
+import vierasionGameSite.ESCCUP.dto.DraftBoardDto;
 import vierasionGameSite.ESCCUP.dto.PlayerDto;
 import vierasionGameSite.ESCCUP.dto.TeamDto;
 import vierasionGameSite.ESCCUP.entity.Player;
@@ -13,7 +16,12 @@ import vierasionGameSite.ESCCUP.repository.PlayerRepository;
 import vierasionGameSite.ESCCUP.repository.TeamRepository;
 import vierasionGameSite.ESCCUP.dto.AssignRequest;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,18 +31,23 @@ public class DraftService {
 
     private final TeamRepository teamRepository;
     private final PlayerRepository playerRepository;
+    private final ResourceVersions resourceVersions;
 
-    // 1. 모든 팀 정보 가져오기 (팀에 속한 선수 포함)
+    // 0. 드래프트 보드 전체 (팀 + 로스터 쿼리 1번, 대기 명단 쿼리 1번)
+    public DraftBoardDto getBoard() {
+        return new DraftBoardDto(getAllTeams(), getStandbyPlayers());
+    }
+
+    // 1. 모든 팀 정보 가져오기 (팀에 속한 선수 포함, 한 번에 조회)
     public List<TeamDto> getAllTeams() {
-        return teamRepository.findAll().stream()
+        return teamRepository.findAllWithPlayers().stream()
                 .map(TeamDto::new) // Entity -> DTO 변환
                 .collect(Collectors.toList());
     }
 
-    // 2. 팀이 없는(대기 중인) 선수들만 가져오기
+    // 2. 팀이 없는(대기 중인) 선수들만 가져오기 (DB에서 team_id IS NULL로 거름)
     public List<PlayerDto> getStandbyPlayers() {
-        return playerRepository.findAll().stream()
-                .filter(p -> p.getTeam() == null)
+        return playerRepository.findByTeamIsNull().stream()
                 .map(PlayerDto::new)
                 .collect(Collectors.toList());
     }
@@ -54,20 +67,57 @@ public class DraftService {
 
         //  변경된 내용을 DB에 강제로 저장 (Flush)
         Player savedPlayer = playerRepository.save(player);
+        resourceVersions.bump(Family.PLAYERS);
 
         return new PlayerDto(savedPlayer);
     }
 
     //4. 전체 일괄 저장 (Batch) - 로그 추가
+    // 선수 / 팀을 각각 쿼리 한 번으로 불러오고, 소속이 실제로 바뀐 선수만 수정
+    // → 커밋 시 변경 감지로 UPDATE가 JDBC 배치로 묶여 나감 (보드 크기와 상관없이 왕복 횟수 일정)
     @Transactional
     public void assignAllPlayers(List<AssignRequest> requests) {
         System.out.println("====== [Batch Save] 요청 들어옴: " + requests.size() + "건 ======");
 
+        // 1. 요청에 나온 선수들 (현재 소속 팀까지 같이)
+        Set<Long> playerIds = new HashSet<>();
+        for (AssignRequest req : requests) {
+            if (req.getPlayerId() == null) throw new IllegalArgumentException("선수 ID가 비어 있습니다.");
+            playerIds.add(req.getPlayerId());
+        }
+        Map<Long, Player> players = playerRepository.findAllWithTeamByIdIn(playerIds).stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+
+        // 2. 목적지 팀 + 현재 소속 팀 (선수 목록까지 같이 → 목록 수정 시 추가 쿼리 없음)
+        Set<Long> teamIds = new HashSet<>();
         for (AssignRequest req : requests) {
-            // 위에서 수정한 메서드를 호출 (save 포함됨)
-            assignPlayerToTeam(req.getPlayerId(), req.getTeamId());
+            if (!players.containsKey(req.getPlayerId())) {
+                throw new IllegalArgumentException("해당 ID의 선수가 없습니다: " + req.getPlayerId());
+            }
+            if (req.getTeamId() != null) teamIds.add(req.getTeamId());
+        }
+        for (Player player : players.values()) {
+            if (player.getTeamId() != null) teamIds.add(player.getTeamId());
+        }
+        Map<Long, Team> teams = teamIds.isEmpty() ? Map.of() : teamRepository.findAllWithPlayersByIdIn(teamIds).stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+
+        // 3. 바뀐 선수만 반영
+        int changed = 0;
+        for (AssignRequest req : requests) {
+            Player player = players.get(req.getPlayerId());
+            if (Objects.equals(player.getTeamId(), req.getTeamId())) continue;
+
+            Team team = null;
+            if (req.getTeamId() != null) {
+                team = teams.get(req.getTeamId());
+                if (team == null) throw new IllegalArgumentException("해당 ID의 팀이 없습니다: " + req.getTeamId());
+            }
+            player.setTeam(team);
+            changed++;
         }
 
-        System.out.println("====== [Batch Save] 저장 완료 ======");
+        if (changed > 0) resourceVersions.bump(Family.PLAYERS);
+        System.out.println("====== [Batch Save] 저장 완료: 변경 " + changed + " / " + requests.size() + "건 ======");
     }
 }
\ No newline at end of file
@@ -0,0 +1,437 @@
+package vierasionGameSite.ESCCUP.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import vierasionGameSite.ESCCUP.component.AfterCommit;
+import vierasionGameSite.ESCCUP.dto.GroupStandingDto;
+import vierasionGameSite.ESCCUP.entity.Match;
+import vierasionGameSite.ESCCUP.entity.Team;
+import vierasionGameSite.ESCCUP.repository.MatchRepository;
+import vierasionGameSite.ESCCUP.repository.TeamRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// 조별 리그(풀리그) / 스위스 스테이지 일정 생성 + 순위 계산
+// - 조별 경기는 Match.groupName / groupRound로 구분 (round는 비워서 토너먼트 대진표와 섞이지 않게)
+// - 순위는 조마다 메모리에 들고 있고, 경기 결과가 들어올 때마다 그 경기 몫만 빼고 다시 더함
+// - 순위 기준: 승수 → 동률 팀끼리 승자승 → 세트 득실 → 세트 승수 → 팀 ID
+// - 스위스 짝짓기: 순위 순으로 정렬 후 재대결 없는 조합을 백트래킹으로 찾고, 진영은 블루를 적게 한 팀에 블루
+@Service
+@RequiredArgsConstructor
+public class GroupStageService {
+
+    public static final String STATUS_BYE = "BYE";
+    public static final String FORMAT_ROUND_ROBIN = "ROUND_ROBIN";
+    public static final String FORMAT_SWISS = "SWISS";
+    private static final int MAX_PAIRING_STEPS = 200_000; // 재대결 없는 조합 탐색 한도 (넘으면 재대결 허용)
+
+    private final MatchRepository matchRepository;
+    private final TeamRepository teamRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 조 이름 → 조 (synchronized 메서드 안에서만 접근)
+    private final Map<String, Group> groups = new TreeMap<>();
+
+    // 경기 한 줄 (순위 계산에 필요한 값만)
+    record Row(long matchId, int round, Long blueTeamId, Long redTeamId, Long winnerTeamId,
+            int blueGames, int redGames, boolean bye) {
+
+        static Row of(Match m) {
+            Long blue = m.getBlueTeam() != null ? m.getBlueTeam().getId() : null;
+            Long red = m.getRedTeam() != null ? m.getRedTeam().getId() : null;
+            String side = m.resolveWinningSide();
+            Long winner = "BLUE".equals(side) ? blue : "RED".equals(side) ? red : null;
+            boolean bye = STATUS_BYE.equals(m.getStatus());
+            if (bye) winner = blue != null ? blue : red;
+
+            // 세트 점수: "2:1" 형식이면 그대로, 아니면 승자 1:0
+            int blueGames = 0, redGames = 0;
+            if (winner != null && !bye) {
+                int[] games = parseScore(m.getScore());
+                if (games != null && (games[0] > games[1]) == winner.equals(blue)) {
+                    blueGames = games[0];
+                    redGames = games[1];
+                } else if (winner.equals(blue)) {
+                    blueGames = 1;
+                } else {
+                    redGames = 1;
+                }
+            }
+            return new Row(m.getId(), m.getGroupRound() != null ? m.getGroupRound() : 0, blue, red, winner,
+                    blueGames, redGames, bye);
+        }
+
+        boolean finished() {
+            return winnerTeamId != null;
+        }
+    }
+
+    // 팀 하나의 누적 기록
+    static class Standing {
+        final Long teamId;
+        String teamName;
+        int played, wins, losses, gameWins, gameLosses, blueSides, redSides, byes;
+        final Map<Long, Integer> meetings = new HashMap<>();    // 상대 팀 → 맞붙은 횟수 (예정 경기 포함)
+        final Map<Long, Integer> winsAgainst = new HashMap<>(); // 상대 팀 → 이긴 횟수 (승자승용)
+
+        Standing(Long teamId, String teamName) {
+            this.teamId = teamId;
+            this.teamName = teamName;
+        }
+
+        int gameDiff() {
+            return gameWins - gameLosses;
+        }
+    }
+
+    static class Group {
+        final String name;
+        String format; // FORMAT_ROUND_ROBIN / FORMAT_SWISS
+        final Map<Long, Row> rows = new HashMap<>();
+        final Map<Long, Standing> standings = new LinkedHashMap<>(); // 등록 순서 = 시드 순서
+
+        Group(String name) {
+            this.name = name;
+        }
+
+        int lastRound() {
+            return rows.values().stream().mapToInt(Row::round).max().orElse(0);
+        }
+
+        // 경기 하나의 몫을 더하거나(sign=1) 뺌(sign=-1)
+        void apply(Row row, int sign) {
+            if (row.bye()) {
+                Standing s = standings.get(row.winnerTeamId());
+                if (s == null) return;
+                s.byes += sign;
+                s.played += sign;
+                s.wins += sign;
+                return;
+            }
+            Standing blue = row.blueTeamId() != null ? standings.get(row.blueTeamId()) : null;
+            Standing red = row.redTeamId() != null ? standings.get(row.redTeamId()) : null;
+            if (blue != null) blue.blueSides += sign;
+            if (red != null) red.redSides += sign;
+            if (blue == null || red == null) return;
+
+            blue.meetings.merge(red.teamId, sign, Integer::sum);
+            red.meetings.merge(blue.teamId, sign, Integer::sum);
+            if (!row.finished()) return;
+
+            Standing winner = row.winnerTeamId().equals(blue.teamId) ? blue : red;
+            Standing loser = winner == blue ? red : blue;
+            blue.played += sign;
+            red.played += sign;
+            winner.wins += sign;
+            loser.losses += sign;
+            winner.winsAgainst.merge(loser.teamId, sign, Integer::sum);
+            blue.gameWins += sign * row.blueGames();
+            blue.gameLosses += sign * row.redGames();
+            red.gameWins += sign * row.redGames();
+            red.gameLosses += sign * row.blueGames();
+        }
+    }
+
+    // 1. 적재 / 다시 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        groups.clear();
+        for (Match m : matchRepository.findGroupStageWithTeams()) {
+            Group group = groups.computeIfAbsent(m.getGroupName(), Group::new);
+            if (m.getGroupFormat() != null) group.format = m.getGroupFormat();
+            register(group, m.getBlueTeam());
+            register(group, m.getRedTeam());
+            put(group, Row.of(m));
+        }
+        System.out.println("====== [GroupStage] 조 " + groups.size() + "개 적재 ======");
+    }
+
+    // 팀 이름 변경 / 팀 삭제처럼 밖에서 바뀐 경우 - 트랜잭션 안이면 커밋 후 다시 적재
+    public void reloadAfterCommit() {
+        AfterCommit.run(this::reload);
+    }
+
+    // 2. 경기 결과 반영 (MatchController.updateMatchResult 등에서 호출, 커밋 후 그 경기 몫만 갱신)
+    public void record(Match match) {
+        if (match.getGroupName() == null) return;
+        String groupName = match.getGroupName();
+        Row row = Row.of(match);
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                Group group = groups.get(groupName);
+                if (group == null || !group.standings.keySet().containsAll(teamsOf(row))) {
+                    reload(); // 조에 없던 팀이 배치된 경우는 통째로 다시 적재
+                    return;
+                }
+                put(group, row);
+            }
+        });
+    }
+
+    public void remove(Match match) {
+        if (match.getGroupName() == null) return;
+        String groupName = match.getGroupName();
+        Long matchId = match.getId();
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                Group group = groups.get(groupName);
+                if (group == null) return;
+                Row old = group.rows.remove(matchId);
+                if (old != null) group.apply(old, -1);
+            }
+        });
+    }
+
+    // 3. 풀리그 일정 생성 (원형 순환 방식, 모든 팀이 한 번씩 맞붙음)
+    public synchronized int createRoundRobin(String groupName, List<Long> teamIds) {
+        Map<Long, String> names = validateNewGroup(groupName, teamIds);
+        List<Object[]> rows = roundRobin(groupName, teamIds);
+        insert(rows, FORMAT_ROUND_ROBIN);
+        System.out.println("====== [GroupStage] " + groupName + " 풀리그 생성: " + names.size() + "팀, 경기 " + rows.size() + "개 ======");
+        return rows.size();
+    }
+
+    // 원형 순환 일정 → 저장할 경기 행 목록 (팀 수 n이 짝수면 n-1라운드, 홀수면 n라운드에 한 팀씩 쉼)
+    static List<Object[]> roundRobin(String groupName, List<Long> teamIds) {
+        List<Long> circle = new ArrayList<>(teamIds);
+        if (circle.size() % 2 != 0) circle.add(null); // 홀수면 쉬는 자리
+        int n = circle.size();
+        Map<Long, Integer> blueCount = new HashMap<>();
+        List<Object[]> rows = new ArrayList<>();
+
+        for (int round = 1; round < n; round++) {
+            for (int i = 0; i < n / 2; i++) {
+                Long a = circle.get(i);
+                Long b = circle.get(n - 1 - i);
+                if (a == null || b == null) continue;
+                // 블루를 덜 한 팀이 블루, 같으면 라운드마다 번갈아
+                int diff = blueCount.getOrDefault(a, 0) - blueCount.getOrDefault(b, 0);
+                boolean aBlue = diff != 0 ? diff < 0 : (round + i) % 2 == 0;
+                Long blue = aBlue ? a : b;
+                Long red = aBlue ? b : a;
+                blueCount.merge(blue, 1, Integer::sum);
+                rows.add(matchRow(groupName, round, blue, red, null, "SCHEDULED"));
+            }
+            // 첫 자리는 고정하고 나머지를 한 칸씩 회전
+            circle.add(1, circle.remove(n - 1));
+        }
+        return rows;
+    }
+
+    // 4. 스위스 스테이지 1라운드 생성 (시드 순서: 상위 절반 vs 하위 절반)
+    public synchronized int createSwiss(String groupName, List<Long> teamIds) {
+        validateNewGroup(groupName, teamIds);
+        Group group = new Group(groupName);
+        teamIds.forEach(id -> group.standings.put(id, new Standing(id, null)));
+        return insert(pair(group, 1, true), FORMAT_SWISS);
+    }
+
+    // 5. 스위스 다음 라운드 짝짓기 (이전 라운드 결과가 모두 들어와 있어야 함)
+    public synchronized int pairNextSwissRound(String groupName) {
+        Group group = groups.get(groupName);
+        if (group == null) throw new IllegalArgumentException("존재하지 않는 조입니다: " + groupName);
+        if (!FORMAT_SWISS.equals(group.format)) throw new IllegalStateException("스위스 방식 조가 아닙니다: " + groupName);
+        int last = group.lastRound();
+        long unfinished = group.rows.values().stream().filter(r -> r.round() == last && !r.finished()).count();
+        if (unfinished > 0) {
+            throw new IllegalStateException(last + "라운드 결과가 " + unfinished + "경기 남아 있습니다.");
+        }
+        return insert(pair(group, last + 1, false), FORMAT_SWISS);
+    }
+
+    // 6. 순위표
+    public synchronized List<GroupStandingDto> standings(String groupName) {
+        Group group = groups.get(groupName);
+        if (group == null) throw new IllegalArgumentException("존재하지 않는 조입니다: " + groupName);
+        List<Standing> ranked = rank(group);
+        List<GroupStandingDto> result = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            Standing s = ranked.get(i);
+            result.add(new GroupStandingDto(i + 1, s.teamId, s.teamName, s.played, s.wins, s.losses,
+                    s.gameWins, s.gameLosses, s.gameDiff(), s.blueSides, s.redSides));
+        }
+        return result;
+    }
+
+    public synchronized List<String> groupNames() {
+        return List.copyOf(groups.keySet());
+    }
+
+    // 승수 → 동률끼리 승자승 → 세트 득실 → 세트 승수 → 팀 ID
+    static List<Standing> rank(Group group) {
+        List<Standing> sorted = new ArrayList<>(group.standings.values());
+        sorted.sort(Comparator.comparingInt((Standing s) -> -s.wins));
+
+        List<Standing> ranked = new ArrayList<>(sorted.size());
+        int from = 0;
+        while (from < sorted.size()) {
+            int to = from;
+            while (to < sorted.size() && sorted.get(to).wins == sorted.get(from).wins) to++;
+            List<Standing> tied = new ArrayList<>(sorted.subList(from, to));
+            if (tied.size() > 1) {
+                Set<Long> tiedIds = new HashSet<>();
+                tied.forEach(s -> tiedIds.add(s.teamId));
+                Map<Long, Integer> headToHead = new HashMap<>();
+                for (Standing s : tied) {
+                    int h2h = 0;
+                    for (Map.Entry<Long, Integer> e : s.winsAgainst.entrySet()) {
+                        if (tiedIds.contains(e.getKey())) h2h += e.getValue();
+                    }
+                    headToHead.put(s.teamId, h2h);
+                }
+                tied.sort(Comparator.comparingInt((Standing s) -> -headToHead.get(s.teamId))
+                        .thenComparingInt(s -> -s.gameDiff())
+                        .thenComparingInt(s -> -s.gameWins)
+                        .thenComparingLong(s -> s.teamId));
+            }
+            ranked.addAll(tied);
+            from = to;
+        }
+        return ranked;
+    }
+
+    // 스위스 짝짓기 → 저장할 경기 행 목록
+    // firstRound면 시드 순서대로 상위 절반 vs 하위 절반, 아니면 현재 순위 순서대로 인접한 팀끼리 (재대결 금지)
+    static List<Object[]> pair(Group group, int round, boolean firstRound) {
+        List<Standing> order = firstRound ? new ArrayList<>(group.standings.values()) : rank(group);
+        List<Object[]> rows = new ArrayList<>();
+
+        // 홀수면 아직 부전승을 받지 않은 가장 낮은 순위 팀에게 부전승
+        if (order.size() % 2 != 0) {
+            Standing bye = order.get(order.size() - 1);
+            for (int i = order.size() - 1; i >= 0; i--) {
+                if (order.get(i).byes == 0) {
+                    bye = order.get(i);
+                    break;
+                }
+            }
+            order.remove(bye);
+            rows.add(matchRow(group.name, round, bye.teamId, null, bye.teamId, STATUS_BYE));
+        }
+
+        int n = order.size();
+        if (firstRound) {
+            List<Standing> seeded = new ArrayList<>(n);
+            for (int i = 0; i < n / 2; i++) {
+                seeded.add(order.get(i));
+                seeded.add(order.get(i + n / 2));
+            }
+            order = seeded;
+        }
+
+        // 인덱스 기반 재대결 행렬
+        boolean[][] played = new boolean[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                played[i][j] = order.get(i).meetings.getOrDefault(order.get(j).teamId, 0) > 0;
+            }
+        }
+        int[] partner = new int[n];
+        Arrays.fill(partner, -1);
+        int[] steps = {0};
+        if (!match(0, partner, played, steps, false)) {
+            // 재대결 없는 조합이 없으면 재대결 허용
+            Arrays.fill(partner, -1);
+            match(0, partner, played, new int[]{0}, true);
+        }
+
+        for (int i = 0; i < n; i++) {
+            int j = partner[i];
+            if (j < i) continue;
+            Standing a = order.get(i);
+            Standing b = order.get(j);
+            // 진영 균형: 블루를 덜 한 팀이 블루, 같으면 순위가 높은 팀이 블루
+            boolean aBlue = (a.blueSides - a.redSides) <= (b.blueSides - b.redSides);
+            rows.add(matchRow(group.name, round, aBlue ? a.teamId : b.teamId, aBlue ? b.teamId : a.teamId, null, "SCHEDULED"));
+        }
+        return rows;
+    }
+
+    // 가장 위의 짝 없는 팀부터, 순위가 가까운 상대 순으로 시도 (막히면 되돌아감)
+    private static boolean match(int from, int[] partner, boolean[][] played, int[] steps, boolean allowRematch) {
+        int i = from;
+        while (i < partner.length && partner[i] >= 0) i++;
+        if (i == partner.length) return true;
+        for (int j = i + 1; j < partner.length; j++) {
+            if (partner[j] >= 0 || (!allowRematch && played[i][j])) continue;
+            if (++steps[0] > MAX_PAIRING_STEPS) return false;
+            partner[i] = j;
+            partner[j] = i;
+            if (match(i + 1, partner, played, steps, allowRematch)) return true;
+            partner[i] = -1;
+            partner[j] = -1;
+        }
+        return false;
+    }
+
+    private Map<Long, String> validateNewGroup(String groupName, List<Long> teamIds) {
+        if (groupName == null || groupName.isBlank()) throw new IllegalArgumentException("조 이름이 비어 있습니다.");
+        if (groups.containsKey(groupName)) throw new IllegalArgumentException("이미 있는 조입니다: " + groupName);
+        if (teamIds == null || teamIds.size() < 2) throw new IllegalArgumentException("팀이 2개 이상 필요합니다.");
+        if (new HashSet<>(teamIds).size() != teamIds.size()) throw new IllegalArgumentException("같은 팀이 두 번 들어있습니다.");
+        Map<Long, String> names = new HashMap<>();
+        for (Team t : teamRepository.findAllById(teamIds)) names.put(t.getId(), t.getName());
+        if (names.size() != teamIds.size()) throw new IllegalArgumentException("존재하지 않는 팀이 있습니다.");
+        return names;
+    }
+
+    private static Object[] matchRow(String groupName, int round, Long blue, Long red, Long winner, String status) {
+        return new Object[]{groupName, round, groupName + " " + round + "라운드", status, blue, red, winner};
+    }
+
+    // 새 경기들을 배치 INSERT 한 번으로 저장하고 조를 다시 적재
+    private int insert(List<Object[]> rows, String format) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> params = rows.stream().map(r -> new Object[]{r[0], format, r[1], r[2], r[3], r[4], r[5], r[6], now}).toList();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "insert into matches (group_name, group_format, group_round, stage, status, blue_team_id, red_team_id, winner_team_id, match_date,"
+                        + " queue_id, blue_baron_kills, blue_dragon_kills, blue_tower_kills, red_baron_kills, red_dragon_kills, red_tower_kills)"
+                        + " values (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0, 0, 0, 0)", params));
+        reload();
+        return rows.size();
+    }
+
+    private static void register(Group group, Team team) {
+        if (team == null) return;
+        group.standings.computeIfAbsent(team.getId(), id -> new Standing(id, team.getName())).teamName = team.getName();
+    }
+
+    private static List<Long> teamsOf(Row row) {
+        List<Long> ids = new ArrayList<>(2);
+        if (row.blueTeamId() != null) ids.add(row.blueTeamId());
+        if (row.redTeamId() != null) ids.add(row.redTeamId());
+        return ids;
+    }
+
+    static void put(Group group, Row row) {
+        Row old = group.rows.put(row.matchId(), row);
+        if (old != null) group.apply(old, -1);
+        group.apply(row, 1);
+    }
+
+    private static int[] parseScore(String score) {
+        if (score == null || !score.contains(":")) return null;
+        String[] parts = score.split(":");
+        try {
+            return new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())};
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+}
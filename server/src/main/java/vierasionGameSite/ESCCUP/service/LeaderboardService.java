@@ -0,0 +1,148 @@
+// src/main/java/vierasionGameSite/ESCCUP/service/LeaderboardService.java
+
+package vierasionGameSite.ESCCUP.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import vierasionGameSite.ESCCUP.entity.Player;
+import vierasionGameSite.ESCCUP.entity.PlayerStats;
+import vierasionGameSite.ESCCUP.repository.PlayerRepository;
+import vierasionGameSite.ESCCUP.repository.PlayerStatsRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+// 대회 전체 순위표 (방송 오버레이용) - 조회 시 DB를 전혀 안 씀
+// - 카테고리별로 점수 순 정렬 구조를 메모리에 유지, 경기 저장/삭제가 커밋되면 해당 선수만 빼고 다시 넣음 (O(log n))
+// - KDA / 평균 딜량은 경기가 늘면 내려갈 수도 있어서 정렬 구조는 전체 선수를 들고, 응답만 상위 K명으로 자름
+// - 시작 시, 그리고 전적 재계산 후에는 player_stats 기준으로 통째로 다시 만듦
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    public enum Category {
+        KILLS,           // 누적 킬
+        KDA,             // (K + A) / D
+        DAMAGE_PER_GAME, // 경기당 평균 딜량
+        CS               // 누적 CS
+    }
+
+    public static final int MAX_LIMIT = 50;
+
+    private final PlayerStatsRepository playerStatsRepository;
+    private final PlayerRepository playerRepository;
+
+    // 아래 필드는 synchronized(this) 안에서만 접근
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Category, TreeSet<Entry>> rankings = new EnumMap<>(Category.class);
+
+    {
+        for (Category category : Category.values()) {
+            rankings.put(category, new TreeSet<>(Comparator.comparingDouble((Entry e) -> e.score(category)).reversed()
+                    .thenComparing(Entry::playerId)));
+        }
+    }
+
+    // 선수 한 명의 누적값 (불변, 바뀌면 새 객체로 교체)
+    public record Entry(Long playerId, String name, int games, long kills, long deaths, long assists, long damage, long cs) {
+        public double score(Category category) {
+            return switch (category) {
+                case KILLS -> kills;
+                case KDA -> deaths == 0 ? kills + assists : (double) (kills + assists) / deaths;
+                case DAMAGE_PER_GAME -> games == 0 ? 0 : (double) damage / games;
+                case CS -> cs;
+            };
+        }
+    }
+
+    // 경기 한 판에서 선수 한 명 몫의 증감 (삭제/되돌리기는 음수)
+    public record Delta(Long playerId, String name, int games, long kills, long deaths, long assists, long damage, long cs) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<PlayerStats> stats = playerStatsRepository.findAll();
+        Map<Long, String> names = playerRepository.findAllById(stats.stream().map(PlayerStats::getPlayerId).toList()).stream()
+                .collect(Collectors.toMap(Player::getId, Player::getName));
+
+        synchronized (this) {
+            entries.clear();
+            rankings.values().forEach(TreeSet::clear);
+            for (PlayerStats s : stats) {
+                if (s.getGames() <= 0) continue;
+                put(new Entry(s.getPlayerId(), names.getOrDefault(s.getPlayerId(), "Unknown"), s.getGames(),
+                        s.getKills(), s.getDeaths(), s.getAssists(), s.getTotalDamage(), s.getTotalCs()));
+            }
+        }
+        System.out.println("====== [Leaderboard] 순위표 재구성: 선수 " + stats.size() + "명 ======");
+    }
+
+    // 커밋된 경기 반영 (PlayerStatsService에서 커밋 후 호출)
+    public synchronized void apply(List<Delta> deltas) {
+        for (Delta d : deltas) {
+            Entry old = entries.get(d.playerId());
+            if (old != null) remove(old);
+
+            Entry next = old == null
+                    ? new Entry(d.playerId(), d.name(), d.games(), d.kills(), d.deaths(), d.assists(), d.damage(), d.cs())
+                    : new Entry(d.playerId(), old.name(), old.games() + d.games(), old.kills() + d.kills(), old.deaths() + d.deaths(),
+                            old.assists() + d.assists(), old.damage() + d.damage(), old.cs() + d.cs());
+            if (next.games() > 0) put(next);
+        }
+    }
+
+    public synchronized void removePlayer(Long playerId) {
+        Entry old = entries.get(playerId);
+        if (old != null) remove(old);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        rankings.values().forEach(TreeSet::clear);
+    }
+
+    // 상위 limit명 (경기 수가 minGames 미만인 선수는 제외)
+    public synchronized List<Map<String, Object>> top(Category category, int limit, int minGames) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<Map<String, Object>> result = new ArrayList<>(size);
+        for (Entry e : rankings.get(category)) {
+            if (e.games() < minGames) continue;
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("rank", result.size() + 1);
+            row.put("playerId", e.playerId());
+            row.put("name", e.name());
+            row.put("games", e.games());
+            row.put("value", Math.round(e.score(category) * 100) / 100.0);
+            result.add(row);
+            if (result.size() == size) break;
+        }
+        return result;
+    }
+
+    public Map<Category, List<Map<String, Object>>> topAll(int limit, int minGames) {
+        Map<Category, List<Map<String, Object>>> boards = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            boards.put(category, top(category, limit, minGames));
+        }
+        return boards;
+    }
+
+    private void put(Entry entry) {
+        entries.put(entry.playerId(), entry);
+        rankings.values().forEach(set -> set.add(entry));
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.playerId());
+        rankings.values().forEach(set -> set.remove(entry));
+    }
+}
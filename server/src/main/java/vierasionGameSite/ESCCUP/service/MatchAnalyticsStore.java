@@ -0,0 +1,304 @@
+// src/main/java/vierasionGameSite/ESCCUP/service/MatchAnalyticsStore.java
+
+package vierasionGameSite.ESCCUP.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import vierasionGameSite.ESCCUP.component.AfterCommit;
+import vierasionGameSite.ESCCUP.entity.Match;
+import vierasionGameSite.ESCCUP.entity.Team;
+import vierasionGameSite.ESCCUP.repository.MatchRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+// 팀 / 진영별 경기 결과 + 오브젝트 통계용 열(column) 저장소
+// - 경기 한 판 = 각 배열의 같은 칸 (matchId[i], blueDragons[i], winner[i] ...), 엔티티 객체 없이 기본형 배열만 순회
+// - 시작 시 한 번 적재, 이후 경기 불러오기 / 결과 수정은 커밋 후 해당 칸만 추가·덮어쓰기, 삭제는 표시만 (재적재 시 정리)
+// - 집계는 진영 단위(한 경기 = 블루 1줄 + 레드 1줄)로 필터 → 팀 또는 진영별 그룹
+// - 행이 많아지면(여러 시즌) 구간을 나눠 병렬로 훑은 뒤 합침
+@Service
+@RequiredArgsConstructor
+public class MatchAnalyticsStore {
+
+    public enum GroupBy { TEAM, SIDE }
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int PARALLEL_THRESHOLD = 50_000; // 이보다 행이 많으면 병렬 스캔
+    private static final int PARALLEL_CHUNK = 16_384;
+
+    private static final byte NO_RESULT = 0;
+    private static final byte BLUE = 1;
+    private static final byte RED = 2;
+    private static final int NO_TEAM = -1;
+
+    // 집계 배열 칸: 경기 수, 승, 드래곤, 바론, 타워
+    private static final int GAMES = 0, WINS = 1, DRAGONS = 2, BARONS = 3, TOWERS = 4, METRICS = 5;
+
+    private final MatchRepository matchRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // --- 열 (lock 안에서만 접근) ---
+    private int size;
+    private long[] matchIds = new long[INITIAL_CAPACITY];
+    private boolean[] live = new boolean[INITIAL_CAPACITY];
+    private byte[] winner = new byte[INITIAL_CAPACITY];
+    private int[] round = new int[INITIAL_CAPACITY];      // 0 = 토너먼트 외 경기
+    private int[] stageCode = new int[INITIAL_CAPACITY];  // stage 문자열 사전 번호
+    private int[] blueTeam = new int[INITIAL_CAPACITY];   // 팀 사전 번호 (NO_TEAM = 미지정)
+    private int[] redTeam = new int[INITIAL_CAPACITY];
+    private int[] blueDragons = new int[INITIAL_CAPACITY];
+    private int[] blueBarons = new int[INITIAL_CAPACITY];
+    private int[] blueTowers = new int[INITIAL_CAPACITY];
+    private int[] redDragons = new int[INITIAL_CAPACITY];
+    private int[] redBarons = new int[INITIAL_CAPACITY];
+    private int[] redTowers = new int[INITIAL_CAPACITY];
+
+    // --- 사전 ---
+    private final Map<Long, Integer> rowByMatchId = new HashMap<>();
+    private final Map<String, Integer> stageCodes = new HashMap<>();
+    private final Map<Long, Integer> teamCodes = new HashMap<>();
+    private final List<Long> teamIds = new ArrayList<>();
+    private final List<String> teamNames = new ArrayList<>();
+
+    // 엔티티에서 뽑아낸 한 경기 (트랜잭션 안에서 만들고 커밋 후 반영)
+    private record Row(long matchId, byte winner, int round, String stage,
+                       Long blueTeamId, String blueTeamName, Long redTeamId, String redTeamName,
+                       int blueDragons, int blueBarons, int blueTowers, int redDragons, int redBarons, int redTowers) {
+
+        static Row of(Match m) {
+            String side = m.resolveWinningSide();
+            Team blue = m.getBlueTeam();
+            Team red = m.getRedTeam();
+            return new Row(m.getId(), "BLUE".equals(side) ? BLUE : "RED".equals(side) ? RED : NO_RESULT,
+                    m.getRound() != null ? m.getRound() : 0, m.getStage(),
+                    blue != null ? blue.getId() : null, blue != null ? blue.getName() : null,
+                    red != null ? red.getId() : null, red != null ? red.getName() : null,
+                    m.getBlueDragonKills(), m.getBlueBaronKills(), m.getBlueTowerKills(),
+                    m.getRedDragonKills(), m.getRedBaronKills(), m.getRedTowerKills());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        List<Row> rows = matchRepository.findAllWithTeams().stream().map(Row::of).toList();
+        lock.writeLock().lock();
+        try {
+            size = 0;
+            rowByMatchId.clear();
+            stageCodes.clear();
+            teamCodes.clear();
+            teamIds.clear();
+            teamNames.clear();
+            rows.forEach(this::write);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        System.out.println("====== [Analytics] 경기 " + rows.size() + "건 적재 ======");
+    }
+
+    // 여러 경기가 한꺼번에 바뀐 경우 (대진표 재생성, 팀 삭제 등) 커밋 후 통째로 다시 적재
+    public void reloadAfterCommit() {
+        AfterCommit.run(this::reload);
+    }
+
+    // 경기 추가 / 결과 수정 (같은 경기면 덮어씀) - 트랜잭션 안이면 커밋 후 반영
+    public void upsert(Match match) {
+        Row row = Row.of(match);
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                write(row);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(Long matchId) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                Integer i = rowByMatchId.remove(matchId);
+                if (i != null) live[i] = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // 진영 단위 집계
+    // groupBy: TEAM / SIDE, stage·round·side·win 은 null이면 조건 없음 (win: true=이긴 쪽만, false=진 쪽만)
+    public List<Map<String, Object>> aggregate(GroupBy groupBy, String stage, Integer roundFilter, String side, Boolean win) {
+        lock.readLock().lock();
+        try {
+            int stageFilter = -1;
+            if (stage != null) {
+                Integer code = stageCodes.get(stage);
+                if (code == null) return List.of();
+                stageFilter = code;
+            }
+            byte sideFilter = side == null ? NO_RESULT : "BLUE".equalsIgnoreCase(side) ? BLUE : RED;
+            int groups = groupBy == GroupBy.TEAM ? teamIds.size() : 2;
+            int fStage = stageFilter;
+            int fRound = roundFilter != null ? roundFilter : 0;
+
+            int rows = size;
+            long[] totals;
+            if (rows >= PARALLEL_THRESHOLD) {
+                int chunks = (rows + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+                totals = IntStream.range(0, chunks).parallel()
+                        .mapToObj(c -> scan(c * PARALLEL_CHUNK, Math.min(rows, (c + 1) * PARALLEL_CHUNK),
+                                groupBy, groups, fStage, fRound, sideFilter, win))
+                        .reduce(new long[groups * METRICS], MatchAnalyticsStore::merge);
+            } else {
+                totals = scan(0, rows, groupBy, groups, fStage, fRound, sideFilter, win);
+            }
+            return toRows(groupBy, groups, totals);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowByMatchId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] scan(int from, int to, GroupBy groupBy, int groups, int fStage, int fRound, byte fSide, Boolean fWin) {
+        long[] acc = new long[groups * METRICS];
+        for (int i = from; i < to; i++) {
+            if (!live[i] || winner[i] == NO_RESULT) continue; // 결과 없는 경기는 제외
+            if (fStage >= 0 && stageCode[i] != fStage) continue;
+            if (fRound != 0 && round[i] != fRound) continue;
+
+            // 블루 진영 한 줄
+            if (fSide != RED) {
+                boolean won = winner[i] == BLUE;
+                int g = groupBy == GroupBy.TEAM ? blueTeam[i] : 0;
+                if (g != NO_TEAM && (fWin == null || fWin == won)) {
+                    add(acc, g, won, blueDragons[i], blueBarons[i], blueTowers[i]);
+                }
+            }
+            // 레드 진영 한 줄
+            if (fSide != BLUE) {
+                boolean won = winner[i] == RED;
+                int g = groupBy == GroupBy.TEAM ? redTeam[i] : 1;
+                if (g != NO_TEAM && (fWin == null || fWin == won)) {
+                    add(acc, g, won, redDragons[i], redBarons[i], redTowers[i]);
+                }
+            }
+        }
+        return acc;
+    }
+
+    private static void add(long[] acc, int group, boolean won, int dragons, int barons, int towers) {
+        int base = group * METRICS;
+        acc[base + GAMES]++;
+        if (won) acc[base + WINS]++;
+        acc[base + DRAGONS] += dragons;
+        acc[base + BARONS] += barons;
+        acc[base + TOWERS] += towers;
+    }
+
+    private static long[] merge(long[] a, long[] b) {
+        long[] sum = new long[a.length];
+        for (int i = 0; i < a.length; i++) sum[i] = a[i] + b[i];
+        return sum;
+    }
+
+    private List<Map<String, Object>> toRows(GroupBy groupBy, int groups, long[] totals) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (int g = 0; g < groups; g++) {
+            int base = g * METRICS;
+            long games = totals[base + GAMES];
+            if (games == 0) continue;
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            if (groupBy == GroupBy.TEAM) {
+                row.put("teamId", teamIds.get(g));
+                row.put("teamName", teamNames.get(g));
+            } else {
+                row.put("side", g == 0 ? "BLUE" : "RED");
+            }
+            row.put("games", games);
+            row.put("wins", totals[base + WINS]);
+            row.put("winRate", Math.round(totals[base + WINS] * 1000.0 / games) / 10.0);
+            row.put("avgDragons", Math.round(totals[base + DRAGONS] * 100.0 / games) / 100.0);
+            row.put("avgBarons", Math.round(totals[base + BARONS] * 100.0 / games) / 100.0);
+            row.put("avgTowers", Math.round(totals[base + TOWERS] * 100.0 / games) / 100.0);
+            result.add(row);
+        }
+        return result;
+    }
+
+    // write lock 안에서만 호출
+    private void write(Row r) {
+        Integer existing = rowByMatchId.get(r.matchId());
+        int i;
+        if (existing != null) {
+            i = existing;
+        } else {
+            if (size == matchIds.length) grow();
+            i = size++;
+            rowByMatchId.put(r.matchId(), i);
+        }
+        matchIds[i] = r.matchId();
+        live[i] = true;
+        winner[i] = r.winner();
+        round[i] = r.round();
+        stageCode[i] = r.stage() != null ? stageCodes.computeIfAbsent(r.stage(), s -> stageCodes.size()) : -2;
+        blueTeam[i] = teamCode(r.blueTeamId(), r.blueTeamName());
+        redTeam[i] = teamCode(r.redTeamId(), r.redTeamName());
+        blueDragons[i] = r.blueDragons();
+        blueBarons[i] = r.blueBarons();
+        blueTowers[i] = r.blueTowers();
+        redDragons[i] = r.redDragons();
+        redBarons[i] = r.redBarons();
+        redTowers[i] = r.redTowers();
+    }
+
+    private int teamCode(Long teamId, String name) {
+        if (teamId == null) return NO_TEAM;
+        Integer code = teamCodes.get(teamId);
+        if (code == null) {
+            code = teamIds.size();
+            teamCodes.put(teamId, code);
+            teamIds.add(teamId);
+            teamNames.add(name);
+        } else if (name != null) {
+            teamNames.set(code, name); // 팀 이름 변경 반영
+        }
+        return code;
+    }
+
+    private void grow() {
+        int capacity = matchIds.length * 2;
+        matchIds = Arrays.copyOf(matchIds, capacity);
+        live = Arrays.copyOf(live, capacity);
+        winner = Arrays.copyOf(winner, capacity);
+        round = Arrays.copyOf(round, capacity);
+        stageCode = Arrays.copyOf(stageCode, capacity);
+        blueTeam = Arrays.copyOf(blueTeam, capacity);
+        redTeam = Arrays.copyOf(redTeam, capacity);
+        blueDragons = Arrays.copyOf(blueDragons, capacity);
+        blueBarons = Arrays.copyOf(blueBarons, capacity);
+        blueTowers = Arrays.copyOf(blueTowers, capacity);
+        redDragons = Arrays.copyOf(redDragons, capacity);
+        redBarons = Arrays.copyOf(redBarons, capacity);
+        redTowers = Arrays.copyOf(redTowers, capacity);
+    }
+}
@@ -0,0 +1,100 @@
+package vierasionGameSite.ESCCUP.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import vierasionGameSite.ESCCUP.component.AfterCommit;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 대진표 / 경기 결과 실시간 알림 (Server-Sent Events)
+// - 연결은 서블릿 비동기 요청으로 유지 → 대기 중인 연결은 스레드를 잡지 않음
+// - 이벤트는 커밋된 뒤에만 전송, 전송은 구독자마다 가상 스레드에서 (느린 클라이언트가 다른 구독자를 막지 않음)
+// - 이벤트에는 바뀐 경기 ID 정도만 담고, 화면은 그걸 보고 필요한 목록만 다시 불러옴
+@Service
+public class MatchEventBroadcaster {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L; // 30분 (끊기면 EventSource가 자동 재연결)
+    private static final long HEARTBEAT_SECONDS = 25; // 프록시가 유휴 연결을 끊지 않도록
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("sse-heartbeat").factory());
+
+    public MatchEventBroadcaster() {
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        // 연결 직후 응답 헤더를 바로 내려보내기 위한 첫 이벤트
+        sender.execute(() -> send(emitter, SseEmitter.event().name("connected").data(sequence.get())));
+        return emitter;
+    }
+
+    // 이벤트 발행 (트랜잭션 안이면 커밋 후에, 롤백되면 보내지 않음)
+    // type: MATCH_ADVANCED, WINNER_SET, TEAM_PLACED, MATCH_LOADED, MATCH_CREATED, MATCH_DELETED, BRACKET_RESET
+    public void publish(String type, Long matchId, Map<String, Object> extra) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("type", type);
+        data.put("matchId", matchId);
+        if (extra != null) data.putAll(extra);
+
+        AfterCommit.run(() -> broadcast(type, data));
+    }
+
+    public void publish(String type, Long matchId) {
+        publish(type, matchId, null);
+    }
+
+    public int subscriberCount() {
+        return emitters.size();
+    }
+
+    private void broadcast(String type, Map<String, Object> data) {
+        long id = sequence.incrementAndGet();
+        for (SseEmitter emitter : emitters) {
+            sender.execute(() -> send(emitter, SseEmitter.event().id(String.valueOf(id)).name(type).data(data)));
+        }
+    }
+
+    private void sendHeartbeat() {
+        for (SseEmitter emitter : emitters) {
+            sender.execute(() -> send(emitter, SseEmitter.event().comment("ping")));
+        }
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 떠난 연결 → 정리
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+}
@@ -0,0 +1,381 @@
+// src/main/java/vierasionGameSite/ESCCUP/service/PickBanService.java
+
+package vierasionGameSite.ESCCUP.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import vierasionGameSite.ESCCUP.component.AfterCommit;
+import vierasionGameSite.ESCCUP.entity.Match;
+import vierasionGameSite.ESCCUP.entity.MatchDetail;
+import vierasionGameSite.ESCCUP.entity.MatchDraftEntry;
+import vierasionGameSite.ESCCUP.repository.MatchDraftEntryRepository;
+import vierasionGameSite.ESCCUP.repository.MatchRepository;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 픽 / 밴 정규화 테이블(match_draft_entries) + 메모리 비트맵 색인
+// - 경기마다 행 번호를 하나 주고, 챔피언 ID → [블루, 레드] BitSet(그 경기에서 픽/밴 했으면 1)
+// - 팀 / 단계 필터도 BitSet (팀 → [블루로 뛴 경기, 레드로 뛴 경기], 단계 → 경기)
+// - 픽률 / 밴률 / 등장률 = 필터 BitSet과 AND 후 개수 세기 → 문자열 파싱 없이 챔피언 수만큼만 계산
+@Service
+@RequiredArgsConstructor
+public class PickBanService {
+
+    private static final int BLUE = 0, RED = 1;
+    private static final int BACKFILL_CHUNK_SIZE = 200;
+
+    private final MatchDraftEntryRepository draftEntryRepository;
+    private final MatchRepository matchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // --- 색인 (lock 안에서만 접근) ---
+    private final Map<Long, Integer> rowByMatchId = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final Map<Integer, BitSet[]> picks = new HashMap<>();
+    private final Map<Integer, BitSet[]> bans = new HashMap<>();
+    private final Map<Long, BitSet[]> teamRows = new HashMap<>();
+    private final Map<String, BitSet> stageRows = new HashMap<>();
+    private final List<long[]> rowTeams = new ArrayList<>();   // 행 → [블루 팀 ID, 레드 팀 ID] (0 = 없음)
+    private final List<String> rowStages = new ArrayList<>();
+
+    // 경기 저장 직후 (같은 트랜잭션) 픽/밴 기록 + 커밋 후 색인 반영
+    @Transactional
+    public void record(Match match) {
+        List<MatchDraftEntry> entries = toEntries(match);
+        if (entries.isEmpty()) return;
+        draftEntryRepository.saveAll(entries);
+
+        Meta meta = Meta.of(match);
+        AfterCommit.run(() -> index(meta, entries));
+    }
+
+    // 재파싱 등으로 픽/밴이 바뀔 수 있을 때
+    @Transactional
+    public void replace(Match match) {
+        draftEntryRepository.deleteByMatchId(match.getId());
+        AfterCommit.run(() -> unindex(match.getId()));
+        record(match);
+    }
+
+    @Transactional
+    public void removeMatch(Long matchId) {
+        draftEntryRepository.deleteByMatchId(matchId);
+        AfterCommit.run(() -> unindex(matchId));
+    }
+
+    // 경기의 팀 / 단계가 바뀌었을 때 (픽/밴 자체는 그대로)
+    public void updateMeta(Match match) {
+        Meta meta = Meta.of(match);
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                Integer row = rowByMatchId.get(meta.matchId());
+                if (row == null) return;
+                clearMeta(row);
+                applyMeta(row, meta);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void reloadAfterCommit() {
+        AfterCommit.run(this::reload);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        Map<Long, List<MatchDraftEntry>> byMatch = new HashMap<>();
+        for (MatchDraftEntry e : draftEntryRepository.findAll()) {
+            byMatch.computeIfAbsent(e.getMatchId(), id -> new ArrayList<>()).add(e);
+        }
+        List<Meta> metas = new ArrayList<>();
+        for (Match m : matchRepository.findAllWithTeams()) {
+            if (byMatch.containsKey(m.getId())) metas.add(Meta.of(m));
+        }
+
+        lock.writeLock().lock();
+        try {
+            rowByMatchId.clear();
+            live.clear();
+            picks.clear();
+            bans.clear();
+            teamRows.clear();
+            stageRows.clear();
+            rowTeams.clear();
+            rowStages.clear();
+            for (Meta meta : metas) {
+                indexLocked(meta, byMatch.get(meta.matchId()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 기존 경기 백필: 픽/밴 정리가 안 된 경기만 묶음 단위로 처리
+    // championId가 없는(컬럼 추가 전) 상세 기록은 다른 경기에서 알게 된 이름 → ID로 채움
+    public Map<String, Object> backfill() {
+        Map<String, Integer> idByName = new HashMap<>();
+        for (Object[] row : draftEntryRepository.findChampionIdsByName()) {
+            idByName.put((String) row[0], ((Number) row[1]).intValue());
+        }
+        Set<Long> done = new HashSet<>(draftEntryRepository.findIndexedMatchIds());
+        List<Long> targets = matchRepository.findAllIds().stream().filter(id -> !done.contains(id)).toList();
+
+        AtomicInteger filled = new AtomicInteger();
+        AtomicInteger unresolved = new AtomicInteger();
+        AtomicInteger indexed = new AtomicInteger();
+        for (int from = 0; from < targets.size(); from += BACKFILL_CHUNK_SIZE) {
+            List<Long> chunk = targets.subList(from, Math.min(from + BACKFILL_CHUNK_SIZE, targets.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Match match : matchRepository.findAllWithDetailsByIdIn(chunk)) {
+                    for (MatchDetail d : match.getMatchDetails()) {
+                        if (d.getChampionId() > 0 || d.getChampionName() == null) continue;
+                        Integer id = idByName.get(d.getChampionName());
+                        if (id != null) {
+                            d.setChampionId(id); // 상세 기록에도 저장 (커밋 시 배치 UPDATE)
+                            filled.incrementAndGet();
+                        } else {
+                            unresolved.incrementAndGet();
+                        }
+                    }
+                    List<MatchDraftEntry> entries = toEntries(match);
+                    if (!entries.isEmpty()) {
+                        draftEntryRepository.saveAll(entries);
+                        indexed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        reload();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("candidates", targets.size());
+        report.put("indexedMatches", indexed.get());
+        report.put("filledChampionIds", filled.get());
+        report.put("unresolvedPicks", unresolved.get());
+        return report;
+    }
+
+    // 챔피언별 픽률 / 밴률 / 등장률 (등장률 높은 순)
+    // teamId: 그 팀의 픽/밴만, 분모는 그 팀 경기 수 / side: 그 진영의 픽/밴만 / stage: 그 단계 경기만
+    public List<Map<String, Object>> rates(Long teamId, String stage, String side, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet mask = (BitSet) live.clone();
+            if (stage != null) mask.and(stageRows.getOrDefault(stage, new BitSet()));
+
+            int[] sides = side == null ? new int[]{BLUE, RED} : new int[]{"BLUE".equalsIgnoreCase(side) ? BLUE : RED};
+
+            // 진영별 대상 경기
+            BitSet[] scope = new BitSet[2];
+            int games = 0;
+            if (teamId != null) {
+                BitSet[] rows = teamRows.get(teamId);
+                if (rows == null) return List.of();
+                for (int s : sides) {
+                    scope[s] = (BitSet) rows[s].clone();
+                    scope[s].and(mask);
+                    games += scope[s].cardinality();
+                }
+            } else {
+                games = mask.cardinality();
+            }
+            if (games == 0) return List.of();
+
+            Set<Integer> champions = new HashSet<>(picks.keySet());
+            champions.addAll(bans.keySet());
+
+            List<Map<String, Object>> result = new ArrayList<>();
+            for (int championId : champions) {
+                BitSet[] p = picks.get(championId);
+                BitSet[] b = bans.get(championId);
+                int pickCount, banCount, presentCount;
+                if (teamId != null) {
+                    // 한 경기에서 팀은 한 진영뿐 → 진영별 개수를 더해도 중복 없음
+                    pickCount = banCount = presentCount = 0;
+                    for (int s : sides) {
+                        pickCount += countIn(p, s, scope[s]);
+                        banCount += countIn(b, s, scope[s]);
+                        BitSet present = union(p, b, s);
+                        present.and(scope[s]);
+                        presentCount += present.cardinality();
+                    }
+                } else {
+                    BitSet picked = new BitSet(), banned = new BitSet();
+                    for (int s : sides) {
+                        if (p != null) picked.or(p[s]);
+                        if (b != null) banned.or(b[s]);
+                    }
+                    picked.and(mask);
+                    banned.and(mask);
+                    pickCount = picked.cardinality();
+                    banCount = banned.cardinality();
+                    picked.or(banned);
+                    presentCount = picked.cardinality();
+                }
+                if (presentCount == 0) continue;
+
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("championId", championId);
+                row.put("picks", pickCount);
+                row.put("bans", banCount);
+                row.put("pickRate", percent(pickCount, games));
+                row.put("banRate", percent(banCount, games));
+                row.put("presenceRate", percent(presentCount, games));
+                row.put("games", games);
+                result.add(row);
+            }
+            result.sort((a, c) -> Double.compare((double) c.get("presenceRate"), (double) a.get("presenceRate")));
+            return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- 내부 ---
+
+    private record Meta(Long matchId, Long blueTeamId, Long redTeamId, String stage) {
+        static Meta of(Match m) {
+            return new Meta(m.getId(),
+                    m.getBlueTeam() != null ? m.getBlueTeam().getId() : null,
+                    m.getRedTeam() != null ? m.getRedTeam().getId() : null,
+                    m.getStage());
+        }
+    }
+
+    private static List<MatchDraftEntry> toEntries(Match match) {
+        List<MatchDraftEntry> entries = new ArrayList<>();
+        for (MatchDetail d : match.getMatchDetails()) {
+            if (d.getChampionId() > 0) {
+                entries.add(new MatchDraftEntry(match.getId(), d.getChampionId(), "PICK", d.getSide()));
+            }
+        }
+        addBans(entries, match.getId(), match.getBlueBans(), "BLUE");
+        addBans(entries, match.getId(), match.getRedBans(), "RED");
+        return entries;
+    }
+
+    private static void addBans(List<MatchDraftEntry> entries, Long matchId, String bans, String side) {
+        if (bans == null || bans.isBlank()) return;
+        for (String token : bans.split(",")) {
+            try {
+                int championId = Integer.parseInt(token.trim());
+                if (championId > 0) entries.add(new MatchDraftEntry(matchId, championId, "BAN", side));
+            } catch (NumberFormatException ignored) {
+                // 잘못된 값은 건너뜀
+            }
+        }
+    }
+
+    private void index(Meta meta, List<MatchDraftEntry> entries) {
+        lock.writeLock().lock();
+        try {
+            indexLocked(meta, entries);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void indexLocked(Meta meta, List<MatchDraftEntry> entries) {
+        Integer existing = rowByMatchId.get(meta.matchId());
+        if (existing != null) removeRow(existing);
+
+        int row = rowTeams.size();
+        rowByMatchId.put(meta.matchId(), row);
+        rowTeams.add(new long[2]);
+        rowStages.add(null);
+        live.set(row);
+        applyMeta(row, meta);
+
+        for (MatchDraftEntry e : entries) {
+            int s = "BLUE".equals(e.getSide()) ? BLUE : RED;
+            Map<Integer, BitSet[]> target = "BAN".equals(e.getAction()) ? bans : picks;
+            target.computeIfAbsent(e.getChampionId(), id -> new BitSet[]{new BitSet(), new BitSet()})[s].set(row);
+        }
+    }
+
+    private void unindex(Long matchId) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowByMatchId.remove(matchId);
+            if (row != null) removeRow(row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 행 번호는 재사용하지 않고 꺼두기만 함 (reload 시 정리)
+    private void removeRow(int row) {
+        live.clear(row);
+        clearMeta(row);
+        for (BitSet[] sets : picks.values()) { sets[BLUE].clear(row); sets[RED].clear(row); }
+        for (BitSet[] sets : bans.values()) { sets[BLUE].clear(row); sets[RED].clear(row); }
+    }
+
+    private void applyMeta(int row, Meta meta) {
+        long[] teams = rowTeams.get(row);
+        if (meta.blueTeamId() != null) {
+            teams[BLUE] = meta.blueTeamId();
+            teamRows.computeIfAbsent(meta.blueTeamId(), id -> new BitSet[]{new BitSet(), new BitSet()})[BLUE].set(row);
+        }
+        if (meta.redTeamId() != null) {
+            teams[RED] = meta.redTeamId();
+            teamRows.computeIfAbsent(meta.redTeamId(), id -> new BitSet[]{new BitSet(), new BitSet()})[RED].set(row);
+        }
+        if (meta.stage() != null) {
+            rowStages.set(row, meta.stage());
+            stageRows.computeIfAbsent(meta.stage(), s -> new BitSet()).set(row);
+        }
+    }
+
+    private void clearMeta(int row) {
+        long[] teams = rowTeams.get(row);
+        for (int s : new int[]{BLUE, RED}) {
+            if (teams[s] != 0) {
+                BitSet[] rows = teamRows.get(teams[s]);
+                if (rows != null) rows[s].clear(row);
+                teams[s] = 0;
+            }
+        }
+        String stage = rowStages.get(row);
+        if (stage != null) {
+            BitSet rows = stageRows.get(stage);
+            if (rows != null) rows.clear(row);
+            rowStages.set(row, null);
+        }
+    }
+
+    private static int countIn(BitSet[] sets, int side, BitSet scope) {
+        if (sets == null) return 0;
+        BitSet hit = (BitSet) sets[side].clone();
+        hit.and(scope);
+        return hit.cardinality();
+    }
+
+    private static BitSet union(BitSet[] p, BitSet[] b, int side) {
+        BitSet result = new BitSet();
+        if (p != null) result.or(p[side]);
+        if (b != null) result.or(b[side]);
+        return result;
+    }
+
+    private static double percent(int count, int games) {
+        return Math.round(count * 1000.0 / games) / 10.0;
+    }
+}
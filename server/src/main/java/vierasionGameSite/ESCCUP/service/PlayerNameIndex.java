@@ -0,0 +1,211 @@
+package vierasionGameSite.ESCCUP.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import vierasionGameSite.ESCCUP.entity.Player;
+import vierasionGameSite.ESCCUP.repository.PlayerRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// 선수 이름 → 선수 ID 메모리 색인
+// - 대소문자/공백을 무시하고 "이름#태그", "이름", "이름태그"(# 없이 붙여 쓴 경우) 키로 찾음
+// - 키는 정렬 맵에 보관 → 접두어 검색(자동완성)은 범위 조회 한 번
+// - 이름(태그 제외)의 3글자 조각(trigram) 색인 → 오타/표기 차이가 있는 이름도 유사도로 후보 찾기
+// - 서버 시작 시 한 번 적재하고, AdminController에서 선수 추가/삭제 시 갱신
+@Component
+@RequiredArgsConstructor
+public class PlayerNameIndex {
+
+    private static final double SEARCH_MIN_SIMILARITY = 0.3;
+    private static final double BEST_MATCH_MIN_SIMILARITY = 0.6; // 경기 불러오기 자동 매칭 기준
+    private static final double BEST_MATCH_MARGIN = 0.1;         // 2등과 이 정도는 차이 나야 확정
+
+    private final PlayerRepository playerRepository;
+
+    // 정규화된 키 → 선수 ID 목록 (같은 이름에 태그만 다른 선수가 있으면 2개 이상)
+    private final TreeMap<String, Set<Long>> idsByKey = new TreeMap<>();
+    private final Map<Long, List<String>> keysById = new HashMap<>();
+
+    // trigram → 선수 ID, 선수 ID → (표시 이름, trigram 목록)
+    private final Map<String, Set<Long>> idsByGram = new HashMap<>();
+    private final Map<Long, Set<String>> gramsById = new HashMap<>();
+    private final Map<Long, String> namesById = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        clear();
+        for (Player player : playerRepository.findAll()) {
+            add(player);
+        }
+        System.out.println("====== [PlayerNameIndex] 선수 " + keysById.size() + "명 색인 완료 ======");
+    }
+
+    public synchronized void add(Player player) {
+        if (player.getId() == null || player.getName() == null) return;
+        remove(player.getId());
+
+        String full = normalize(player.getName());
+        int hash = full.indexOf('#');
+        String name = hash >= 0 ? full.substring(0, hash) : full;
+        List<String> keys = hash >= 0 ? List.of(full, name, name + full.substring(hash + 1)) : List.of(full);
+        for (String key : keys) {
+            idsByKey.computeIfAbsent(key, k -> new HashSet<>()).add(player.getId());
+        }
+        keysById.put(player.getId(), keys);
+
+        Set<String> grams = trigrams(name);
+        for (String gram : grams) {
+            idsByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(player.getId());
+        }
+        gramsById.put(player.getId(), grams);
+        namesById.put(player.getId(), player.getName());
+    }
+
+    public synchronized void remove(Long playerId) {
+        List<String> keys = keysById.remove(playerId);
+        if (keys == null) return;
+        for (String key : keys) {
+            removeFrom(idsByKey, key, playerId);
+        }
+        for (String gram : gramsById.remove(playerId)) {
+            removeFrom(idsByGram, gram, playerId);
+        }
+        namesById.remove(playerId);
+    }
+
+    public synchronized void clear() {
+        idsByKey.clear();
+        keysById.clear();
+        idsByGram.clear();
+        gramsById.clear();
+        namesById.clear();
+    }
+
+    // Riot ID(게임 이름 + 태그)로 등록 선수 찾기. 태그 포함 일치 → 이름+태그 붙여 쓴 이름 → 이름만 일치 순서, 애매하면 null
+    public synchronized Long find(String gameName, String tagLine) {
+        if (gameName == null || gameName.isEmpty()) return null;
+        String name = normalize(gameName);
+        if (tagLine != null && !tagLine.isEmpty()) {
+            String tag = normalize(tagLine);
+            Long exact = single(idsByKey.get(name + "#" + tag));
+            if (exact != null) return exact;
+            Long joined = single(idsByKey.get(name + tag));
+            if (joined != null) return joined;
+        }
+        return single(idsByKey.get(name));
+    }
+
+    // 정확히 일치하는 선수가 없을 때 유사도로 한 명 고르기 (경기 불러오기 보조용)
+    // 충분히 비슷하고 2등과 확실히 차이 날 때만 반환, excludeIds(이미 다른 참가자에 매칭된 선수)는 제외
+    public synchronized Long bestMatch(String gameName, Collection<Long> excludeIds) {
+        if (gameName == null || gameName.isEmpty()) return null;
+        Map<Long, Double> scores = similarities(normalize(gameName));
+        Long best = null;
+        double bestScore = 0, secondScore = 0;
+        for (Map.Entry<Long, Double> e : scores.entrySet()) {
+            if (excludeIds.contains(e.getKey())) continue;
+            if (e.getValue() > bestScore) {
+                secondScore = bestScore;
+                bestScore = e.getValue();
+                best = e.getKey();
+            } else if (e.getValue() > secondScore) {
+                secondScore = e.getValue();
+            }
+        }
+        return (bestScore >= BEST_MATCH_MIN_SIMILARITY && bestScore - secondScore >= BEST_MATCH_MARGIN) ? best : null;
+    }
+
+    // 자동완성: 접두어 일치(짧은 이름 우선) → 그다음 유사한 이름 순
+    public synchronized List<Map<String, Object>> search(String query, int limit) {
+        String q = query == null ? "" : normalize(query);
+        if (q.isEmpty()) return List.of();
+
+        Map<Long, Double> ranked = new LinkedHashMap<>();
+        // 한 선수가 여러 키(이름, 이름#태그)로 걸리므로 Set으로 중복 제거 후 정렬
+        Set<Long> uniqueHits = new LinkedHashSet<>();
+        for (Set<Long> ids : idsByKey.subMap(q, true, q + Character.MAX_VALUE, true).values()) {
+            uniqueHits.addAll(ids);
+        }
+        List<Long> prefixHits = new ArrayList<>(uniqueHits);
+        prefixHits.sort((a, b) -> Integer.compare(namesById.get(a).length(), namesById.get(b).length()));
+        for (Long id : prefixHits) {
+            if (ranked.size() >= limit) break;
+            ranked.put(id, 1.0);
+        }
+
+        if (ranked.size() < limit) {
+            String name = q.indexOf('#') >= 0 ? q.substring(0, q.indexOf('#')) : q;
+            similarities(name).entrySet().stream()
+                    .filter(e -> e.getValue() >= SEARCH_MIN_SIMILARITY && !ranked.containsKey(e.getKey()))
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                    .limit(limit - ranked.size())
+                    .forEach(e -> ranked.put(e.getKey(), e.getValue()));
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>(ranked.size());
+        ranked.forEach((id, score) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", id);
+            row.put("name", namesById.get(id));
+            row.put("score", Math.round(score * 100) / 100.0);
+            result.add(row);
+        });
+        return result;
+    }
+
+    // "Hide on bush #KR1" → "hideonbush#kr1"
+    public static String normalize(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    // 후보(공통 trigram이 하나라도 있는 선수)별 Dice 유사도 = 2 * 공통 / (양쪽 개수 합)
+    private Map<Long, Double> similarities(String name) {
+        Set<String> grams = trigrams(name);
+        Map<Long, Integer> common = new HashMap<>();
+        for (String gram : grams) {
+            Set<Long> ids = idsByGram.get(gram);
+            if (ids == null) continue;
+            for (Long id : ids) common.merge(id, 1, Integer::sum);
+        }
+        Map<Long, Double> scores = new HashMap<>();
+        common.forEach((id, count) -> scores.put(id, 2.0 * count / (grams.size() + gramsById.get(id).size())));
+        return scores;
+    }
+
+    // 앞뒤에 경계 문자를 붙여서 짧은 이름도 조각이 생기도록 ("abc" → "$$a", "$ab", "abc", "bc$")
+    private static Set<String> trigrams(String name) {
+        String padded = "$$" + name + "$";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static void removeFrom(Map<String, Set<Long>> index, String key, Long playerId) {
+        Set<Long> ids = index.get(key);
+        if (ids == null) return;
+        ids.remove(playerId);
+        if (ids.isEmpty()) index.remove(key);
+    }
+
+    private static Long single(Set<Long> ids) {
+        return (ids != null && ids.size() == 1) ? ids.iterator().next() : null;
+    }
+}
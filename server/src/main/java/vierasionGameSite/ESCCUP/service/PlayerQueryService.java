@@ -0,0 +1,83 @@
+package vierasionGameSite.ESCCUP.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import vierasionGameSite.ESCCUP.dto.PlayerPageDto;
+import vierasionGameSite.ESCCUP.entity.Player;
+import vierasionGameSite.ESCCUP.entity.Tier;
+import vierasionGameSite.ESCCUP.repository.PlayerRepository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static vierasionGameSite.ESCCUP.repository.PlayerSpecifications.*;
+
+// 관리자 선수 목록 (조건 검색 + 정렬 + 페이지)
+// 티어 정렬/범위는 문자열 대신 players.tier_ordinal(인덱스) 기준
+@Service
+@RequiredArgsConstructor
+public class PlayerQueryService {
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // 정렬 이름 → 엔티티 필드
+    private static final Map<String, String> SORT_FIELDS = Map.of(
+            "id", "id",
+            "name", "name",
+            "tier", "tierOrdinal",
+            "position", "position");
+
+    private final PlayerRepository playerRepository;
+
+    // 검색 조건 (null이면 그 조건은 무시)
+    public record Filter(String minTier, String maxTier, String position, Long teamId, Boolean standby, String q) {
+    }
+
+    @Transactional(readOnly = true)
+    public PlayerPageDto search(Filter filter, String sort, int page, int size) {
+        Integer min = filter.minTier() != null ? Tier.ordinalOf(filter.minTier()) : null;
+        Integer max = filter.maxTier() != null ? Tier.upperOrdinalOf(filter.maxTier()) : null;
+        Specification<Player> spec = Specification.allOf(List.of(
+                tierBetween(min, max),
+                positionContains(filter.position()),
+                inTeam(filter.teamId()),
+                standby(filter.standby()),
+                nameContains(filter.q())));
+
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, MAX_PAGE_SIZE)), parseSort(sort));
+        return new PlayerPageDto(playerRepository.findAll(spec, pageRequest));
+    }
+
+    // "tier,desc" / "name" / "position,asc" → Sort (같은 값이면 ID 순)
+    private static Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) return Sort.by("id");
+        String[] parts = sort.split(",");
+        String field = SORT_FIELDS.get(parts[0].trim().toLowerCase(Locale.ROOT));
+        if (field == null) {
+            throw new IllegalArgumentException("정렬 기준은 " + SORT_FIELDS.keySet() + " 중 하나입니다: " + parts[0]);
+        }
+        Sort.Direction direction = parts.length > 1 && "desc".equalsIgnoreCase(parts[1].trim())
+                ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort primary = Sort.by(direction, field);
+        return "id".equals(field) ? primary : primary.and(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    // 티어 서열 컬럼이 생기기 전에 등록된 선수는 서버 시작 시 한 번 채움 (이후엔 저장할 때 자동 계산)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillTierOrdinals() {
+        List<Player> missing = playerRepository.findByTierOrdinalIsNull();
+        if (missing.isEmpty()) return;
+        for (Player player : missing) {
+            player.setTierOrdinal(Tier.ordinalOf(player.getTier()));
+        }
+        System.out.println("====== [PlayerQuery] 티어 서열 채움: 선수 " + missing.size() + "명 ======");
+    }
+}
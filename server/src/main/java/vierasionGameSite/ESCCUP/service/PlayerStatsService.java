@@ -0,0 +1,214 @@
+// src/main/java/vierasionGameSite/ESCCUP/service/PlayerStatsService.java
+
+package vierasionGameSite.ESCCUP.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import vierasionGameSite.ESCCUP.component.AfterCommit;
+import vierasionGameSite.ESCCUP.dto.PlayerStatsDto;
+import vierasionGameSite.ESCCUP.entity.Match;
+import vierasionGameSite.ESCCUP.entity.MatchDetail;
+import vierasionGameSite.ESCCUP.entity.PlayerStats;
+import vierasionGameSite.ESCCUP.repository.MatchRepository;
+import vierasionGameSite.ESCCUP.repository.PlayerChampionStatsRepository;
+import vierasionGameSite.ESCCUP.repository.PlayerStatsRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+// 선수별 누적 전적 관리
+// - 경기 저장 / 결과 수정 / 삭제 시 같은 트랜잭션 안에서 증감만 반영 (MatchDetail 전체를 다시 읽지 않음)
+// - 누적값이 어긋났을 때를 위한 전체 재계산 (경기 묶음 단위 병렬 집계 → 한 트랜잭션에서 교체)
+// - 같은 증감을 커밋 후 메모리 순위표(LeaderboardService)에도 반영
+@Service
+@RequiredArgsConstructor
+public class PlayerStatsService {
+
+    private static final int REBUILD_CHUNK_SIZE = 200;
+
+    private final PlayerStatsRepository playerStatsRepository;
+    private final PlayerChampionStatsRepository championStatsRepository;
+    private final MatchRepository matchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final LeaderboardService leaderboardService;
+
+    // 새 경기 반영
+    @Transactional
+    public void recordMatch(Match match) {
+        afterCommit(apply(match, 1));
+    }
+
+    // 경기 삭제 전 되돌리기
+    @Transactional
+    public void revertMatch(Match match) {
+        afterCommit(apply(match, -1));
+        playerStatsRepository.deleteEmpty();
+        championStatsRepository.deleteEmpty();
+    }
+
+    // 결과 / 팀 / 기록이 바뀌는 수정: 옛 값 빼고 → 수정 → 새 값 더함
+    @Transactional
+    public void reapply(Match match, Runnable change) {
+        List<LeaderboardService.Delta> deltas = new ArrayList<>(apply(match, -1));
+        change.run();
+        deltas.addAll(apply(match, 1));
+        afterCommit(deltas);
+        playerStatsRepository.deleteEmpty();
+        championStatsRepository.deleteEmpty();
+    }
+
+    // 여러 경기를 한 번에 바꾸는 일괄 수정 (팀 삭제의 일괄 UPDATE 등)
+    // 옛 값 빼고 → 수정 → 경기를 다시 읽어서 새 값 더함 (수정이 영속성 컨텍스트를 비워도 새로 읽으므로 안전)
+    @Transactional
+    public void reapplyAll(Collection<Long> matchIds, Runnable change) {
+        if (matchIds.isEmpty()) {
+            change.run();
+            return;
+        }
+        List<LeaderboardService.Delta> deltas = new ArrayList<>();
+        for (Match match : matchRepository.findAllWithDetailsByIdIn(matchIds)) {
+            deltas.addAll(apply(match, -1));
+        }
+        change.run();
+        for (Match match : matchRepository.findAllWithDetailsByIdIn(matchIds)) {
+            deltas.addAll(apply(match, 1));
+        }
+        afterCommit(deltas);
+        playerStatsRepository.deleteEmpty();
+        championStatsRepository.deleteEmpty();
+    }
+
+    // 선수 삭제 시 정리
+    @Transactional
+    public void deletePlayer(Long playerId) {
+        playerStatsRepository.deleteById(playerId);
+        championStatsRepository.deleteByPlayer(playerId);
+        AfterCommit.run(() -> leaderboardService.removePlayer(playerId));
+    }
+
+    @Transactional
+    public void deleteAll() {
+        playerStatsRepository.deleteAllInBatch();
+        championStatsRepository.deleteAllInBatch();
+        AfterCommit.run(leaderboardService::clear);
+    }
+
+    // 프로필 조회 (PK 조회 1번 + 챔피언 목록 1번)
+    @Transactional(readOnly = true)
+    public PlayerStatsDto getStats(Long playerId) {
+        PlayerStats stats = playerStatsRepository.findById(playerId).orElseGet(() -> {
+            PlayerStats empty = new PlayerStats();
+            empty.setPlayerId(playerId);
+            return empty;
+        });
+        return new PlayerStatsDto(stats, championStatsRepository.findByPlayerIdOrderByGamesDescWinsDesc(playerId));
+    }
+
+    private List<LeaderboardService.Delta> apply(Match match, int sign) {
+        List<LeaderboardService.Delta> deltas = new ArrayList<>();
+        String winningSide = match.resolveWinningSide();
+        for (MatchDetail d : match.getMatchDetails()) {
+            if (d.getPlayer() == null) continue; // DB에 없는 참가자는 집계하지 않음
+
+            Long playerId = d.getPlayer().getId();
+            int win = (winningSide != null && winningSide.equals(d.getSide())) ? 1 : 0;
+            playerStatsRepository.addDelta(playerId, sign, sign * win,
+                    sign * (long) d.getKills(), sign * (long) d.getDeaths(), sign * (long) d.getAssists(),
+                    sign * (long) d.getTotalDamage(), sign * (long) d.getTotalGold(), sign * (long) d.getCs());
+            if (d.getChampionName() != null) {
+                championStatsRepository.addDelta(playerId, d.getChampionName(), sign, sign * win);
+            }
+            deltas.add(new LeaderboardService.Delta(playerId, d.getPlayer().getName(), sign,
+                    sign * (long) d.getKills(), sign * (long) d.getDeaths(), sign * (long) d.getAssists(),
+                    sign * (long) d.getTotalDamage(), sign * (long) d.getCs()));
+        }
+        return deltas;
+    }
+
+    // 롤백되면 순위표에 반영하지 않음
+    private void afterCommit(List<LeaderboardService.Delta> deltas) {
+        if (!deltas.isEmpty()) AfterCommit.run(() -> leaderboardService.apply(deltas));
+    }
+
+    // 전체 재계산
+    public Map<String, Object> rebuild() {
+        List<Long> matchIds = matchRepository.findAllIds();
+
+        // 1. 묶음마다 별도 트랜잭션으로 읽어서 병렬 집계
+        Map<Long, long[]> totals = new ConcurrentHashMap<>();          // 선수 ID → [games, wins, k, d, a, dmg, gold, cs]
+        Map<String, int[]> champions = new ConcurrentHashMap<>();      // "선수ID:챔피언" → [games, wins]
+        int chunks = (matchIds.size() + REBUILD_CHUNK_SIZE - 1) / REBUILD_CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(i -> {
+            List<Long> chunk = matchIds.subList(i * REBUILD_CHUNK_SIZE, Math.min((i + 1) * REBUILD_CHUNK_SIZE, matchIds.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Match match : matchRepository.findAllWithDetailsByIdIn(chunk)) {
+                    accumulate(match, totals, champions);
+                }
+            });
+        });
+
+        // 2. 한 트랜잭션에서 통째로 교체 (JDBC 배치 INSERT)
+        List<Object[]> statRows = new ArrayList<>();
+        totals.forEach((playerId, t) -> statRows.add(new Object[]{playerId, t[0], t[1], t[2], t[3], t[4], t[5], t[6], t[7]}));
+        List<Object[]> championRows = new ArrayList<>();
+        champions.forEach((key, c) -> {
+            int sep = key.indexOf(':');
+            championRows.add(new Object[]{Long.valueOf(key.substring(0, sep)), key.substring(sep + 1), c[0], c[1]});
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("delete from player_stats");
+            jdbcTemplate.update("delete from player_champion_stats");
+            jdbcTemplate.batchUpdate("insert into player_stats (player_id, games, wins, kills, deaths, assists, total_damage, total_gold, total_cs)" +
+                    " values (?, ?, ?, ?, ?, ?, ?, ?, ?)", statRows);
+            jdbcTemplate.batchUpdate("insert into player_champion_stats (player_id, champion_name, games, wins) values (?, ?, ?, ?)", championRows);
+        });
+
+        leaderboardService.rebuild();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("matches", matchIds.size());
+        report.put("players", statRows.size());
+        report.put("championRows", championRows.size());
+        return report;
+    }
+
+    private static void accumulate(Match match, Map<Long, long[]> totals, Map<String, int[]> champions) {
+        String winningSide = match.resolveWinningSide();
+        for (MatchDetail d : match.getMatchDetails()) {
+            if (d.getPlayer() == null) continue;
+
+            Long playerId = d.getPlayer().getId();
+            int win = (winningSide != null && winningSide.equals(d.getSide())) ? 1 : 0;
+            totals.compute(playerId, (id, t) -> {
+                if (t == null) t = new long[8];
+                t[0]++;
+                t[1] += win;
+                t[2] += d.getKills();
+                t[3] += d.getDeaths();
+                t[4] += d.getAssists();
+                t[5] += d.getTotalDamage();
+                t[6] += d.getTotalGold();
+                t[7] += d.getCs();
+                return t;
+            });
+            if (d.getChampionName() != null) {
+                champions.compute(playerId + ":" + d.getChampionName(), (key, c) -> {
+                    if (c == null) c = new int[2];
+                    c[0]++;
+                    c[1] += win;
+                    return c;
+                });
+            }
+        }
+    }
+}
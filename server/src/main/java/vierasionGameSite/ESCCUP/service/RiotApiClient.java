@@ -0,0 +1,58 @@
+package vierasionGameSite.ESCCUP.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+// Riot API HTTP 호출 전담 (모든 호출은 RiotRateLimiter를 거침)
+@Component
+@RequiredArgsConstructor
+public class RiotApiClient {
+
+    // 429를 받았을 때 Retry-After만큼 기다린 뒤 다시 시도할 횟수
+    private static final int MAX_RETRIES = 3;
+
+    @Value("${riot.api.key}")
+    private String apiKey;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final RiotRateLimiter rateLimiter;
+
+    // match-v5 경기 상세 (asia 라우팅)
+    public String getMatch(String gameId) {
+        return get("asia", "match-v5", "https://asia.api.riotgames.com/lol/match/v5/matches/" + gameId);
+    }
+
+    // league-v4 랭크 정보 (kr 플랫폼)
+    public String getLeagueEntries(String summonerId) {
+        return get("kr", "league-v4", "https://kr.api.riotgames.com/lol/league/v4/entries/by-summoner/" + summonerId);
+    }
+
+    // league-v4 랭크 정보 (summonerId가 없는 응답용, puuid 기준)
+    public String getLeagueEntriesByPuuid(String puuid) {
+        return get("kr", "league-v4-puuid", "https://kr.api.riotgames.com/lol/league/v4/entries/by-puuid/" + puuid);
+    }
+
+    private String get(String region, String method, String url) {
+        for (int attempt = 0; ; attempt++) {
+            rateLimiter.acquire(region, method);
+            try {
+                ResponseEntity<String> response = restTemplate.exchange(url + "?api_key=" + apiKey, HttpMethod.GET, null, String.class);
+                rateLimiter.onResponse(region, method, response.getHeaders());
+                return response.getBody();
+            } catch (HttpClientErrorException e) {
+                if (e.getStatusCode().value() != 429) {
+                    rateLimiter.onResponse(region, method, e.getResponseHeaders());
+                    throw e;
+                }
+                // 429: 대기열로 돌아가서 Retry-After 이후 재시도
+                rateLimiter.onRateLimited(region, method, e.getResponseHeaders());
+                if (attempt >= MAX_RETRIES) throw e;
+            }
+        }
+    }
+}
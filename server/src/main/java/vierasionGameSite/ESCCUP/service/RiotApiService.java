@@ -1,220 +1,206 @@
 package vierasionGameSite.ESCCUP.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional; // 트랜잭션 추가
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
+import vierasionGameSite.ESCCUP.component.ResourceVersions;
+import vierasionGameSite.ESCCUP.component.ResourceVersions.Family;
+import vierasionGameSite.ESCCUP.dto.BatchLoadRequest;
+import vierasionGameSite.ESCCUP.dto.BatchLoadResult;
 import vierasionGameSite.ESCCUP.entity.*;
 import vierasionGameSite.ESCCUP.repository.*;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
 public class RiotApiService {
 
-    @Value("${riot.api.key}")
-    private String apiKey;
+    // true면 API 대신 보관된 원본으로 경기 불러오기
+    @Value("${riot.archive.replay:false}")
+    private boolean replayMode;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RiotApiClient riotApiClient;
+    private final RiotMatchParser riotMatchParser;
+    private final RiotPayloadArchive payloadArchive;
+    private final TierLookupService tierLookupService;
+    private final PlayerNameIndex playerNameIndex;
     private final PlayerRepository playerRepository;
     private final MatchRepository matchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ResourceVersions resourceVersions;
+    private final MatchEventBroadcaster matchEventBroadcaster;
+    private final PlayerStatsService playerStatsService;
+    private final MatchAnalyticsStore matchAnalyticsStore;
+    private final PickBanService pickBanService;
+
+    // 일괄 저장 시 한 트랜잭션에 묶을 경기 수
+    private static final int SAVE_CHUNK_SIZE = 10;
+    // 재파싱 결과를 한 트랜잭션에 반영할 경기 수
+    private static final int REPARSE_CHUNK_SIZE = 50;
+    // 일괄 불러오기 한 번에 받는 최대 경기 수 (경기마다 Riot API 호출 + 미등록자 티어 조회가 따라옴)
+    private static final int MAX_BATCH_SIZE = 50;
+
+    // 받아 둔 원본 (묶음 저장이 실패하면 이걸로 엔티티를 새로 만들어 한 건씩 재시도)
+    private record Fetched(String gameId, String stage, String json, Match match) {
+    }
 
     @Transactional // DB 저장 시 정합성 보장
     public Match loadMatchFromRiot(String gameId, String stage) {
-        // ID 포맷 보정
-        if (!gameId.startsWith("KR_")) gameId = "KR_" + gameId;
-        System.out.println("========== [Riot API] 경기 로드 시작: " + gameId + " ==========");
-
-        try {
-            // 1. API 호출
-            String matchUrl = "https://asia.api.riotgames.com/lol/match/v5/matches/" + gameId + "?api_key=" + apiKey;
-            String jsonResponse = restTemplate.getForObject(matchUrl, String.class);
-            JsonNode root = objectMapper.readTree(jsonResponse);
-
-            // 데이터 검증
-            JsonNode info = root.path("info");
-            if (info.isMissingNode()) {
-                throw new RuntimeException("Riot API 응답에 'info' 데이터가 없습니다.");
-            }
+        Match saved = matchRepository.save(fetchMatch(gameId, stage));
+        playerStatsService.recordMatch(saved); // 선수 누적 전적 증감 (같은 트랜잭션)
+        matchAnalyticsStore.upsert(saved);
+        pickBanService.record(saved);
+        resourceVersions.bump(Family.MATCHES); // 커밋 후 반영
+        matchEventBroadcaster.publish("MATCH_LOADED", saved.getId(), Map.of("gameId", saved.getGameId()));
+        return saved;
+    }
 
-            // 2. Match 객체 생성
-            Match match = new Match();
-            match.setStage(stage);
-            match.setStatus("FINISHED");
-
-            // 날짜/시간 (선택 사항)
-            // match.setMatchDate(LocalDateTime.now());
-
-            // 3. 팀 데이터 파싱
-            JsonNode teams = info.path("teams");
-            boolean isBlueWin = false;
-
-            for (JsonNode team : teams) {
-                int teamId = team.path("teamId").asInt();
-                boolean win = team.path("win").asBoolean();
-
-                // 오브젝트 (칼바람/사설은 없을 수 있음 -> 0 처리)
-                JsonNode objs = team.path("objectives");
-                int baron = objs.path("baron").path("kills").asInt(0);
-                int dragon = objs.path("dragon").path("kills").asInt(0);
-                int tower = objs.path("tower").path("kills").asInt(0);
-
-                // 밴 (없을 수 있음)
-                StringBuilder banSb = new StringBuilder();
-                if (team.has("bans")) {
-                    for (JsonNode ban : team.path("bans")) {
-                        int champId = ban.path("championId").asInt();
-                        if (champId > 0) { // -1, 0 제외
-                            if (banSb.length() > 0) banSb.append(",");
-                            banSb.append(champId);
-                        }
-                    }
+    // 여러 경기 일괄 불러오기
+    // 1) 같은 경기 ID는 한 번만 (두 번 저장되면 선수 누적 전적도 두 번 더해짐)
+    // 2) 가상 스레드에서 동시에 API 호출 + 파싱
+    // 3) SAVE_CHUNK_SIZE 단위 트랜잭션으로 저장 (한 경기가 실패해도 나머지는 유지)
+    public List<BatchLoadResult> loadMatchesFromRiot(BatchLoadRequest request) {
+        List<BatchLoadRequest.Game> games = request.getGames();
+        if (games.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "경기까지 불러올 수 있습니다. (요청: " + games.size() + "경기)");
+        }
+        System.out.println("========== [Riot API] 일괄 로드 시작: " + games.size() + "건 ==========");
+
+        BatchLoadResult[] results = new BatchLoadResult[games.size()];
+        Map<String, Integer> firstIndexByGameId = new HashMap<>();
+        List<Integer> fetchIndexes = new ArrayList<>();
+        List<Future<Fetched>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < games.size(); i++) {
+                BatchLoadRequest.Game game = games.get(i);
+                String gameId;
+                try {
+                    gameId = normalizeGameId(game.getGameId());
+                } catch (IllegalArgumentException e) {
+                    results[i] = BatchLoadResult.failure(game.getGameId(), e.getMessage());
+                    continue;
                 }
-
-                if (teamId == 100) { // BLUE
-                    match.setBlueBaronKills(baron);
-                    match.setBlueDragonKills(dragon);
-                    match.setBlueTowerKills(tower);
-                    match.setBlueBans(banSb.toString());
-                    if (win) isBlueWin = true;
-                } else { // RED
-                    match.setRedBaronKills(baron);
-                    match.setRedDragonKills(dragon);
-                    match.setRedTowerKills(tower);
-                    match.setRedBans(banSb.toString());
+                Integer first = firstIndexByGameId.putIfAbsent(gameId, i);
+                if (first != null) {
+                    results[i] = BatchLoadResult.failure(game.getGameId(), "같은 요청에 이미 있는 경기 ID입니다. (" + (first + 1) + "번째)");
+                    continue;
                 }
+                String stage = (game.getStage() != null && !game.getStage().isEmpty()) ? game.getStage() : request.getStage();
+                fetchIndexes.add(i);
+                futures.add(executor.submit(() -> {
+                    String json = fetchPayload(gameId);
+                    return new Fetched(gameId, stage, json, buildMatch(gameId, stage, json));
+                }));
             }
+        } // close()에서 모든 작업 완료까지 대기
+
+        List<Integer> parsedIndexes = new ArrayList<>();
+        List<Fetched> fetched = new ArrayList<>();
+        for (int k = 0; k < futures.size(); k++) {
+            int idx = fetchIndexes.get(k);
+            String gameId = games.get(idx).getGameId();
+            try {
+                fetched.add(futures.get(k).get());
+                parsedIndexes.add(idx);
+            } catch (ExecutionException e) {
+                results[idx] = BatchLoadResult.failure(gameId, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results[idx] = BatchLoadResult.failure(gameId, "작업이 중단되었습니다.");
+            }
+        }
 
-            // 4. 참가자 데이터 파싱
-            List<MatchDetail> details = new ArrayList<>();
-            Team detectedBlueTeam = null;
-            Team detectedRedTeam = null;
-
-            JsonNode participants = info.path("participants");
-            if (participants.isMissingNode()) throw new RuntimeException("참가자 정보가 없습니다.");
-
-            for (JsonNode p : participants) {
-                try {
-                    MatchDetail detail = new MatchDetail();
-                    detail.setMatch(match);
-
-                    // --- [ID 및 봇 감지] ---
-                    String riotIdName = p.path("riotIdGameName").asText();
-                    String summonerName = p.path("summonerName").asText();
-                    String puuid = p.path("puuid").asText();
-
-                    boolean isBot = "BOT".equals(puuid) || (riotIdName.isEmpty() && summonerName.isEmpty());
-                    if (riotIdName.isEmpty()) riotIdName = summonerName;
-                    if (riotIdName.isEmpty()) riotIdName = "Unknown Bot";
-
-                    // --- [선수 DB 매핑 & 티어 스냅샷] ---
-                    // DB에 없는 선수는 절대 새로 만들지 않고, null로 처리하여 기록만 남김
-                    Player player = playerRepository.findByName(riotIdName).orElse(null);
-
-                    String tierSnapshot = "Unranked";
-                    if (isBot) {
-                        tierSnapshot = "Bot";
-                    } else if (player != null && player.getTier() != null) {
-                        tierSnapshot = player.getTier(); // DB 정보 우선
-                    } else {
-                        // DB 미등록자는 API로 현재 티어만 조회
-                        tierSnapshot = safeFetchTier(p.path("summonerId").asText());
-                    }
-
-                    detail.setPlayer(player); // player가 null이어도 됨 (Entity nullable=true)
-                    detail.setPlayerName(riotIdName);
-                    detail.setPlayerTier(tierSnapshot);
-
-                    // --- [팀 자동 감지] ---
-                    int teamId = p.path("teamId").asInt();
-                    if (player != null && player.getTeam() != null) {
-                        if (teamId == 100) detectedBlueTeam = player.getTeam();
-                        else detectedRedTeam = player.getTeam();
-                    }
-
-                    // --- [상세 스탯] ---
-                    detail.setChampionName(p.path("championName").asText());
-                    detail.setKills(p.path("kills").asInt());
-                    detail.setDeaths(p.path("deaths").asInt());
-                    detail.setAssists(p.path("assists").asInt());
-                    detail.setTotalDamage(p.path("totalDamageDealtToChampions").asInt());
-                    detail.setTotalGold(p.path("goldEarned").asInt());
-                    detail.setCs(p.path("totalMinionsKilled").asInt() + p.path("neutralMinionsKilled").asInt());
-                    detail.setChampLevel(p.path("champLevel").asInt());
-
-                    // 아이템
-                    detail.setItem0(p.path("item0").asInt());
-                    detail.setItem1(p.path("item1").asInt());
-                    detail.setItem2(p.path("item2").asInt());
-                    detail.setItem3(p.path("item3").asInt());
-                    detail.setItem4(p.path("item4").asInt());
-                    detail.setItem5(p.path("item5").asInt());
-                    detail.setItem6(p.path("item6").asInt());
-
-                    // 스펠
-                    detail.setSpell1Id(p.path("summoner1Id").asInt(0));
-                    detail.setSpell2Id(p.path("summoner2Id").asInt(0));
-
-                    // [룬 데이터 파싱 추가]
-                    JsonNode perks = p.path("perks");
-                    JsonNode styles = perks.path("styles");
-                    int mainRuneId = 0;
-                    int subRuneStyleId = 0;
-
-                    for (JsonNode style : styles) {
-                        String desc = style.path("description").asText();
-                        if ("primaryStyle".equals(desc)) {
-                            // 핵심 룬은 selections의 첫 번째 값
-                            mainRuneId = style.path("selections").path(0).path("perk").asInt(0);
-                        } else if ("subStyle".equals(desc)) {
-                            // 보조 룬은 style ID 자체
-                            subRuneStyleId = style.path("style").asInt(0);
-                        }
-                    }
-                    detail.setMainRuneId(mainRuneId);
-                    detail.setSubRuneStyleId(subRuneStyleId);
-
-                    // 진영 및 포지션
-                    detail.setSide(teamId == 100 ? "BLUE" : "RED");
-
-                    String pos = p.path("teamPosition").asText();
-                    if (pos.isEmpty() || "Invalid".equalsIgnoreCase(pos)) {
-                        pos = p.path("individualPosition").asText(); // 대체 필드
-                    }
-                    if (pos.isEmpty() || "Invalid".equalsIgnoreCase(pos)) {
-                        pos = "ANY"; // 사설/칼바람 최후의 수단
+        for (int from = 0; from < fetched.size(); from += SAVE_CHUNK_SIZE) {
+            int to = Math.min(from + SAVE_CHUNK_SIZE, fetched.size());
+            List<Match> chunk = fetched.subList(from, to).stream().map(Fetched::match).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveNew(chunk));
+                for (int i = from; i < to; i++) {
+                    int idx = parsedIndexes.get(i);
+                    results[idx] = BatchLoadResult.success(games.get(idx).getGameId(), fetched.get(i).match().getId());
+                }
+            } catch (Exception chunkError) {
+                // 묶음 저장 실패 시 한 건씩 다시 저장해서 문제 경기만 걸러냄
+                // 롤백된 엔티티는 다시 쓰지 않고, 받아 둔 원본으로 새로 만들어서 저장 (API 재호출 없음)
+                for (int i = from; i < to; i++) {
+                    int idx = parsedIndexes.get(i);
+                    String gameId = games.get(idx).getGameId();
+                    Fetched f = fetched.get(i);
+                    try {
+                        Match fresh = buildMatch(f.gameId(), f.stage(), f.json());
+                        transactionTemplate.executeWithoutResult(status -> saveNew(List.of(fresh)));
+                        results[idx] = BatchLoadResult.success(gameId, fresh.getId());
+                    } catch (Exception e) {
+                        results[idx] = BatchLoadResult.failure(gameId, "경기 저장 실패: " + e.getMessage());
                     }
-                    detail.setPosition(pos);
-
-                    details.add(detail);
-
-                } catch (Exception e) {
-                    System.out.println("  ❌ 참가자(" + p.path("participantId").asInt() + ") 파싱 오류 (Skipping): " + e.getMessage());
-                    // 한 명 에러 나도 전체 중단하지 않음
                 }
             }
+        }
+
+        long successCount = Arrays.stream(results).filter(BatchLoadResult::isSuccess).count();
+        if (successCount > 0) resourceVersions.bump(Family.MATCHES);
+        for (BatchLoadResult result : results) {
+            if (result.isSuccess()) {
+                matchEventBroadcaster.publish("MATCH_LOADED", result.getMatchId(), Map.of("gameId", result.getGameId()));
+            }
+        }
+        System.out.println("========== [Riot API] 일괄 로드 완료: 성공 " + successCount + " / " + games.size() + " ==========");
+        return List.of(results);
+    }
+
+    // 새 경기 저장 + 누적 전적 / 통계 / 밴픽 색인 반영 (트랜잭션 안에서 호출)
+    private void saveNew(List<Match> matches) {
+        matchRepository.saveAll(matches);
+        matches.forEach(playerStatsService::recordMatch);
+        matches.forEach(matchAnalyticsStore::upsert);
+        matches.forEach(pickBanService::record);
+    }
 
-            match.setBlueTeam(detectedBlueTeam);
-            match.setRedTeam(detectedRedTeam);
-            match.setWinningTeam(isBlueWin ? detectedBlueTeam : detectedRedTeam);
-            match.setMatchDetails(details);
-            match.setScore(isBlueWin ? "1:0" : "0:1");
+    // API 호출 + 파싱만 수행 (저장은 호출하는 쪽에서)
+    private Match fetchMatch(String gameId, String stage) {
+        String id = normalizeGameId(gameId);
+        return buildMatch(id, stage, fetchPayload(id));
+    }
 
-            return matchRepository.save(match);
+    // " 12345 " → "KR_12345"
+    private static String normalizeGameId(String gameId) {
+        if (gameId == null || gameId.isBlank()) throw new IllegalArgumentException("경기 ID가 비어 있습니다.");
+        gameId = gameId.trim();
+        return gameId.startsWith("KR_") ? gameId : "KR_" + gameId;
+    }
 
+    // 원본 JSON 가져오기 (API 오류는 화면에 보여줄 메시지로 바꿈)
+    private String fetchPayload(String gameId) {
+        System.out.println("========== [Riot API] 경기 로드 시작: " + gameId + " ==========");
+        try {
+            // API 호출 (속도 제한기 경유) 또는 보관된 원본 읽기
+            return loadPayload(gameId);
         } catch (HttpClientErrorException e) {
             System.out.println("❌ Riot API 오류 (" + e.getStatusCode() + "): " + e.getMessage());
             if (e.getStatusCode().value() == 404) {
                 throw new RuntimeException("존재하지 않는 게임이거나, 기록이 남지 않은 사설 게임입니다.");
             } else if (e.getStatusCode().value() == 403) {
                 throw new RuntimeException("API 키가 만료되었습니다. 갱신해주세요.");
+            } else if (e.getStatusCode().value() == 429) {
+                throw new RuntimeException("Riot API 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
             }
             throw new RuntimeException("Riot API 호출 실패");
         } catch (Exception e) {
@@ -223,26 +209,210 @@ public class RiotApiService {
         }
     }
 
-    private String safeFetchTier(String summonerId) {
-        if (summonerId == null || summonerId.isEmpty() || "0".equals(summonerId)) return "Unranked";
+    // 원본 → 저장 전 Match (부를 때마다 새 엔티티)
+    private Match buildMatch(String gameId, String stage, String json) {
         try {
-            String url = "https://kr.api.riotgames.com/lol/league/v4/entries/by-summoner/" + summonerId + "?api_key=" + apiKey;
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode leagues = objectMapper.readTree(response);
+            // 원본 파싱 (경기/팀 오브젝트/밴/참가자 스탯)
+            RiotMatchParser.ParsedMatch parsed = riotMatchParser.parse(json);
+            Match match = parsed.match();
+            match.setStage(stage);
+            match.setGameId(gameId);
 
-            for (JsonNode league : leagues) {
-                if ("RANKED_SOLO_5x5".equals(league.get("queueType").asText())) {
-                    return league.get("tier").asText() + " " + league.get("rank").asText();
-                }
+            // 참가자 ↔ 등록 선수 매핑, 티어 스냅샷, 팀 자동 감지
+            resolveParticipants(parsed);
+            return match;
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw new RuntimeException("경기 저장 중 내부 오류: " + e.getMessage());
+        }
+    }
+
+    // 원본 JSON 가져오기: 재생 모드면 보관소에서, 아니면 API 호출 후 보관소에 저장
+    private String loadPayload(String gameId) throws IOException {
+        if (replayMode) {
+            String archived = payloadArchive.read(gameId);
+            if (archived == null) throw new RuntimeException("보관된 원본 데이터가 없습니다: " + gameId);
+            return archived;
+        }
+
+        String json = riotApiClient.getMatch(gameId);
+        try {
+            payloadArchive.append(gameId, json);
+        } catch (IOException e) {
+            // 보관 실패는 경기 저장을 막지 않음
+            System.out.println("⚠️ [Riot API] 원본 보관 실패 (" + gameId + "): " + e.getMessage());
+        }
+        return json;
+    }
+
+    private void resolveParticipants(RiotMatchParser.ParsedMatch parsed) {
+        List<RiotMatchParser.ParsedParticipant> participants = parsed.participants();
+
+        // 참가자 Riot ID를 먼저 모두 모아서 등록 선수를 한 번에 조회 (이름 색인 + IN 쿼리 1회, 팀 포함)
+        List<Long> participantPlayerIds = new ArrayList<>();
+        for (RiotMatchParser.ParsedParticipant p : participants) {
+            participantPlayerIds.add(p.bot() ? null : playerNameIndex.find(p.riotIdName(), p.tagLine()));
+        }
+        // 정확히 일치하지 않은 참가자는 이름 유사도로 한 번 더 (이미 매칭된 선수는 제외)
+        for (int i = 0; i < participants.size(); i++) {
+            RiotMatchParser.ParsedParticipant p = participants.get(i);
+            if (p.bot() || participantPlayerIds.get(i) != null) continue;
+            Long guessed = playerNameIndex.bestMatch(p.riotIdName(), participantPlayerIds);
+            if (guessed != null) {
+                System.out.println("  🔎 이름 유사 매칭: " + p.riotIdName() + "#" + p.tagLine() + " → 선수 ID " + guessed);
+                participantPlayerIds.set(i, guessed);
+            }
+        }
+        List<Long> registeredIds = participantPlayerIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, Player> playersById = new HashMap<>();
+        if (!registeredIds.isEmpty()) {
+            for (Player registered : playerRepository.findAllWithTeamByIdIn(registeredIds)) {
+                playersById.put(registered.getId(), registered);
+            }
+        }
+
+        List<CompletableFuture<String>> tierLookups = new ArrayList<>(); // DB 미등록자 티어 조회 (참가자와 같은 순서, 불필요하면 null)
+        Team detectedBlueTeam = null;
+        Team detectedRedTeam = null;
+
+        for (int i = 0; i < participants.size(); i++) {
+            RiotMatchParser.ParsedParticipant p = participants.get(i);
+            MatchDetail detail = p.detail();
+
+            // --- [선수 DB 매핑 & 티어 스냅샷] ---
+            // DB에 없는 선수는 절대 새로 만들지 않고, null로 처리하여 기록만 남김
+            Long playerId = participantPlayerIds.get(i);
+            Player player = playerId != null ? playersById.get(playerId) : null;
+
+            CompletableFuture<String> tierLookup = null;
+            if (p.bot()) {
+                detail.setPlayerTier("Bot");
+            } else if (player != null && player.getTier() != null) {
+                detail.setPlayerTier(player.getTier()); // DB 정보 우선
+            } else {
+                // DB 미등록자는 API로 현재 티어만 조회 (참가자 전원 병렬, 루프 뒤에서 한꺼번에 대기)
+                tierLookup = tierLookupService.lookupTier(p.puuid(), p.summonerId());
             }
-            for (JsonNode league : leagues) {
-                if ("RANKED_FLEX_SR".equals(league.get("queueType").asText())) {
-                    return league.get("tier").asText() + " " + league.get("rank").asText();
+            tierLookups.add(tierLookup);
+
+            detail.setPlayer(player); // player가 null이어도 됨 (Entity nullable=true)
+
+            // --- [팀 자동 감지] ---
+            if (player != null && player.getTeam() != null) {
+                if ("BLUE".equals(detail.getSide())) detectedBlueTeam = player.getTeam();
+                else detectedRedTeam = player.getTeam();
+            }
+        }
+
+        // 티어 조회 결과 반영 (가장 늦은 조회 1회만큼만 대기)
+        for (int i = 0; i < participants.size(); i++) {
+            if (tierLookups.get(i) != null) participants.get(i).detail().setPlayerTier(tierLookups.get(i).join());
+        }
+
+        Match match = parsed.match();
+        match.setBlueTeam(detectedBlueTeam);
+        match.setRedTeam(detectedRedTeam);
+        match.setWinningTeam(parsed.blueWin() ? detectedBlueTeam : detectedRedTeam);
+        match.setWinningSide(parsed.blueWin() ? "BLUE" : "RED"); // 이긴 쪽 팀을 못 찾아도 승패는 남김
+    }
+
+    // 보관된 원본 전체 재파싱 → 기존 Match / MatchDetail 갱신 (새로 추가한 파싱 필드 소급 적용용)
+    // REPARSE_CHUNK_SIZE 경기씩: 병렬 파싱 → 한 트랜잭션으로 반영 → 버림 (메모리는 묶음 하나 크기만큼만 사용)
+    // 한 묶음 저장이 실패해도 이미 반영한 묶음은 유지 (선수 매핑/티어 스냅샷은 건드리지 않음)
+    public Map<String, Object> reparseArchive() {
+        List<String> gameIds = new ArrayList<>(payloadArchive.gameIds());
+        System.out.println("========== [Riot API] 보관 원본 재파싱 시작: " + gameIds.size() + "건 ==========");
+
+        AtomicInteger parsedCount = new AtomicInteger();
+        AtomicInteger parseFailures = new AtomicInteger();
+        AtomicInteger updated = new AtomicInteger();
+        int failedChunks = 0;
+        for (int from = 0; from < gameIds.size(); from += REPARSE_CHUNK_SIZE) {
+            List<String> slice = gameIds.subList(from, Math.min(from + REPARSE_CHUNK_SIZE, gameIds.size()));
+
+            Map<String, Match> parsedByGameId = new ConcurrentHashMap<>();
+            slice.parallelStream().forEach(gameId -> {
+                try {
+                    parsedByGameId.put(gameId, riotMatchParser.parse(payloadArchive.read(gameId)).match());
+                } catch (Exception e) {
+                    parseFailures.incrementAndGet();
+                    System.out.println("  ❌ 재파싱 실패 (" + gameId + "): " + e.getMessage());
                 }
+            });
+            if (parsedByGameId.isEmpty()) continue;
+            parsedCount.addAndGet(parsedByGameId.size());
+
+            try {
+                int applied = transactionTemplate.execute(status -> {
+                    int count = 0;
+                    for (Match match : matchRepository.findAllWithDetailsByGameIdIn(parsedByGameId.keySet())) {
+                        // 스탯이 바뀔 수 있으므로 누적 전적도 옛 값 빼고 새 값 더함
+                        playerStatsService.reapply(match, () -> copyParsedFields(parsedByGameId.get(match.getGameId()), match));
+                        matchAnalyticsStore.upsert(match); // 오브젝트 수치도 다시 파싱됨
+                        pickBanService.replace(match);
+                        count++;
+                    }
+                    return count;
+                }); // 커밋 시 변경분이 JDBC 배치 UPDATE로 나감
+                updated.addAndGet(applied);
+            } catch (Exception e) {
+                failedChunks++;
+                System.out.println("  ❌ 재파싱 반영 실패 (" + slice.get(0) + " 외 " + (slice.size() - 1) + "건): " + e.getMessage());
             }
-        } catch (Exception e) {
-            return "Unranked"; // 어떤 에러가 나도 무시하고 언랭크 처리
         }
-        return "Unranked";
+
+        if (updated.get() > 0) resourceVersions.bump(Family.MATCHES);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("archived", gameIds.size());
+        report.put("parsed", parsedCount.get());
+        report.put("parseFailures", parseFailures.get());
+        report.put("failedChunks", failedChunks);
+        report.put("updatedMatches", updated.get());
+        System.out.println("========== [Riot API] 재파싱 완료: " + report + " ==========");
+        return report;
+    }
+
+    // 원본에서 나오는 값만 덮어씀 (팀/선수 연결, 단계, 티어 스냅샷은 유지)
+    private static void copyParsedFields(Match source, Match target) {
+        target.setWinningSide(source.getWinningSide());
+        target.setBlueBaronKills(source.getBlueBaronKills());
+        target.setBlueDragonKills(source.getBlueDragonKills());
+        target.setBlueTowerKills(source.getBlueTowerKills());
+        target.setBlueBans(source.getBlueBans());
+        target.setRedBaronKills(source.getRedBaronKills());
+        target.setRedDragonKills(source.getRedDragonKills());
+        target.setRedTowerKills(source.getRedTowerKills());
+        target.setRedBans(source.getRedBans());
+
+        // 참가자는 진영 + 챔피언으로 짝지음 (한 경기에서 같은 진영에 같은 챔피언은 없음)
+        Map<String, MatchDetail> parsedDetails = new HashMap<>();
+        for (MatchDetail d : source.getMatchDetails()) {
+            parsedDetails.put(d.getSide() + ":" + d.getChampionName(), d);
+        }
+        for (MatchDetail d : target.getMatchDetails()) {
+            MatchDetail parsed = parsedDetails.get(d.getSide() + ":" + d.getChampionName());
+            if (parsed == null) continue;
+            d.setChampionId(parsed.getChampionId());
+            d.setPosition(parsed.getPosition());
+            d.setKills(parsed.getKills());
+            d.setDeaths(parsed.getDeaths());
+            d.setAssists(parsed.getAssists());
+            d.setChampLevel(parsed.getChampLevel());
+            d.setTotalDamage(parsed.getTotalDamage());
+            d.setTotalGold(parsed.getTotalGold());
+            d.setCs(parsed.getCs());
+            d.setItem0(parsed.getItem0());
+            d.setItem1(parsed.getItem1());
+            d.setItem2(parsed.getItem2());
+            d.setItem3(parsed.getItem3());
+            d.setItem4(parsed.getItem4());
+            d.setItem5(parsed.getItem5());
+            d.setItem6(parsed.getItem6());
+            d.setSpell1Id(parsed.getSpell1Id());
+            d.setSpell2Id(parsed.getSpell2Id());
+            d.setMainRuneId(parsed.getMainRuneId());
+            d.setSubRuneStyleId(parsed.getSubRuneStyleId());
+        }
     }
-}
\ No newline at end of file
+}
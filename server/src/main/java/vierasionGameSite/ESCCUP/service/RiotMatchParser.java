@@ -0,0 +1,344 @@
+package vierasionGameSite.ESCCUP.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.stereotype.Component;
+import vierasionGameSite.ESCCUP.entity.Match;
+import vierasionGameSite.ESCCUP.entity.MatchDetail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// match-v5 응답 JSON → Match / MatchDetail 변환
+// DB 조회나 API 호출 없이 원본 데이터만 해석 (선수 매핑, 티어 조회는 RiotApiService에서)
+// JsonNode 트리를 만들지 않고 토큰 스트림을 한 번 훑으면서 필요한 필드만 바로 엔티티에 기록
+// (challenges, missions, 핑 등 안 쓰는 하위 트리는 통째로 건너뜀)
+@Component
+public class RiotMatchParser {
+
+    private static final String NO_INFO = "Riot API 응답에 'info' 데이터가 없습니다.";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    // 파싱 결과: 경기 + 참가자별 부가 정보 (details와 같은 순서)
+    public record ParsedMatch(Match match, boolean blueWin, List<ParsedParticipant> participants) {
+    }
+
+    // 선수 매핑/티어 조회에 필요한 참가자 정보
+    public record ParsedParticipant(MatchDetail detail, String riotIdName, String tagLine,
+                                    String puuid, String summonerId, boolean bot) {
+    }
+
+    public ParsedMatch parse(String json) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) throw new RuntimeException(NO_INFO);
+
+            ParsedMatch parsed = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("info".equals(field) && token == JsonToken.START_OBJECT) {
+                    parsed = parseInfo(parser);
+                } else {
+                    parser.skipChildren(); // metadata 등
+                }
+            }
+
+            // 데이터 검증
+            if (parsed == null) throw new RuntimeException(NO_INFO);
+            return parsed;
+        }
+    }
+
+    private ParsedMatch parseInfo(JsonParser parser) throws IOException {
+        // 1. Match 객체 생성
+        Match match = new Match();
+        match.setStatus("FINISHED");
+
+        boolean isBlueWin = false;
+        boolean hasParticipants = false;
+        List<MatchDetail> details = new ArrayList<>();
+        List<ParsedParticipant> participants = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            if ("teams".equals(field) && token == JsonToken.START_ARRAY) {
+                // 2. 팀 데이터 파싱
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                    if (token == JsonToken.START_OBJECT) {
+                        if (parseTeam(parser, match)) isBlueWin = true;
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if ("participants".equals(field)) {
+                // 3. 참가자 데이터 파싱
+                hasParticipants = true;
+                if (token != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                    if (token == JsonToken.START_OBJECT) {
+                        ParsedParticipant participant = parseParticipant(parser, match);
+                        details.add(participant.detail());
+                        participants.add(participant);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (!hasParticipants) throw new RuntimeException("참가자 정보가 없습니다.");
+
+        match.setMatchDetails(details);
+        match.setScore(isBlueWin ? "1:0" : "0:1");
+        match.setWinningSide(isBlueWin ? "BLUE" : "RED");
+        return new ParsedMatch(match, isBlueWin, participants);
+    }
+
+    // 팀 1개 파싱 → 블루팀이 이겼으면 true
+    private boolean parseTeam(JsonParser parser, Match match) throws IOException {
+        int teamId = 0;
+        boolean win = false;
+        // 오브젝트 (칼바람/사설은 없을 수 있음 -> 0 처리)
+        int baron = 0, dragon = 0, tower = 0;
+        // 밴 (없을 수 있음)
+        StringBuilder banSb = new StringBuilder();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "teamId" -> teamId = intValue(parser);
+                case "win" -> win = booleanValue(parser);
+                case "objectives" -> {
+                    if (token != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        break;
+                    }
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String objective = parser.currentName();
+                        parser.nextToken();
+                        switch (objective) {
+                            case "baron" -> baron = readIntField(parser, "kills");
+                            case "dragon" -> dragon = readIntField(parser, "kills");
+                            case "tower" -> tower = readIntField(parser, "kills");
+                            default -> parser.skipChildren();
+                        }
+                    }
+                }
+                case "bans" -> {
+                    if (token != JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                        break;
+                    }
+                    while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                        int champId = readIntField(parser, "championId");
+                        if (champId > 0) { // -1, 0 제외
+                            if (banSb.length() > 0) banSb.append(",");
+                            banSb.append(champId);
+                        }
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (teamId == 100) { // BLUE
+            match.setBlueBaronKills(baron);
+            match.setBlueDragonKills(dragon);
+            match.setBlueTowerKills(tower);
+            match.setBlueBans(banSb.toString());
+            return win;
+        } else { // RED
+            match.setRedBaronKills(baron);
+            match.setRedDragonKills(dragon);
+            match.setRedTowerKills(tower);
+            match.setRedBans(banSb.toString());
+            return false;
+        }
+    }
+
+    private ParsedParticipant parseParticipant(JsonParser parser, Match match) throws IOException {
+        MatchDetail detail = new MatchDetail();
+        detail.setMatch(match);
+
+        String riotIdName = "";
+        String summonerName = "";
+        String tagLine = "";
+        String puuid = "";
+        String summonerId = "";
+        String teamPosition = "";
+        String individualPosition = "";
+        int teamId = 0;
+        int minionKills = 0;
+        int monsterKills = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                // --- [ID] ---
+                case "riotIdGameName" -> riotIdName = textValue(parser);
+                case "summonerName" -> summonerName = textValue(parser);
+                case "riotIdTagline" -> tagLine = textValue(parser);
+                case "puuid" -> puuid = textValue(parser);
+                case "summonerId" -> summonerId = textValue(parser);
+                case "teamId" -> teamId = intValue(parser);
+
+                // --- [상세 스탯] ---
+                case "championName" -> detail.setChampionName(textValue(parser));
+                case "championId" -> detail.setChampionId(intValue(parser));
+                case "kills" -> detail.setKills(intValue(parser));
+                case "deaths" -> detail.setDeaths(intValue(parser));
+                case "assists" -> detail.setAssists(intValue(parser));
+                case "totalDamageDealtToChampions" -> detail.setTotalDamage(intValue(parser));
+                case "goldEarned" -> detail.setTotalGold(intValue(parser));
+                case "totalMinionsKilled" -> minionKills = intValue(parser);
+                case "neutralMinionsKilled" -> monsterKills = intValue(parser);
+                case "champLevel" -> detail.setChampLevel(intValue(parser));
+
+                // 아이템
+                case "item0" -> detail.setItem0(intValue(parser));
+                case "item1" -> detail.setItem1(intValue(parser));
+                case "item2" -> detail.setItem2(intValue(parser));
+                case "item3" -> detail.setItem3(intValue(parser));
+                case "item4" -> detail.setItem4(intValue(parser));
+                case "item5" -> detail.setItem5(intValue(parser));
+                case "item6" -> detail.setItem6(intValue(parser));
+
+                // 스펠
+                case "summoner1Id" -> detail.setSpell1Id(intValue(parser));
+                case "summoner2Id" -> detail.setSpell2Id(intValue(parser));
+
+                // 룬
+                case "perks" -> parsePerks(parser, detail);
+
+                // 포지션
+                case "teamPosition" -> teamPosition = textValue(parser);
+                case "individualPosition" -> individualPosition = textValue(parser);
+
+                default -> parser.skipChildren(); // challenges, missions, 핑 등
+            }
+        }
+
+        // --- [봇 감지] ---
+        if (riotIdName.isEmpty()) riotIdName = summonerName;
+        boolean isBot = "BOT".equals(puuid) || riotIdName.isEmpty();
+        detail.setPlayerName(riotIdName.isEmpty() ? "Unknown Bot" : riotIdName);
+        if (isBot) detail.setPlayerTier("Bot");
+
+        detail.setCs(minionKills + monsterKills);
+
+        // 진영 및 포지션
+        detail.setSide(teamId == 100 ? "BLUE" : "RED");
+
+        String pos = teamPosition;
+        if (pos.isEmpty() || "Invalid".equalsIgnoreCase(pos)) {
+            pos = individualPosition; // 대체 필드
+        }
+        if (pos.isEmpty() || "Invalid".equalsIgnoreCase(pos)) {
+            pos = "ANY"; // 사설/칼바람 최후의 수단
+        }
+        detail.setPosition(pos);
+
+        return new ParsedParticipant(detail, riotIdName, tagLine, puuid, summonerId, isBot);
+    }
+
+    // perks.styles: 핵심 룬은 primaryStyle의 첫 번째 selections, 보조 룬은 subStyle의 style ID
+    private void parsePerks(JsonParser parser, MatchDetail detail) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (!"styles".equals(field) || token != JsonToken.START_ARRAY) {
+                parser.skipChildren(); // statPerks 등
+                continue;
+            }
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                String description = "";
+                int style = 0;
+                int firstPerk = 0;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String styleField = parser.currentName();
+                    JsonToken styleToken = parser.nextToken();
+                    if ("description".equals(styleField)) {
+                        description = textValue(parser);
+                    } else if ("style".equals(styleField)) {
+                        style = intValue(parser);
+                    } else if ("selections".equals(styleField) && styleToken == JsonToken.START_ARRAY) {
+                        boolean first = true;
+                        while ((styleToken = parser.nextToken()) != JsonToken.END_ARRAY && styleToken != null) {
+                            int perk = readIntField(parser, "perk");
+                            if (first) firstPerk = perk;
+                            first = false;
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if ("primaryStyle".equals(description)) {
+                    detail.setMainRuneId(firstPerk);
+                } else if ("subStyle".equals(description)) {
+                    detail.setSubRuneStyleId(style);
+                }
+            }
+        }
+    }
+
+    // 현재 위치가 객체면 그 안의 숫자 필드 하나만 읽고 나머지는 건너뜀 (없으면 0)
+    private static int readIntField(JsonParser parser, String name) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return 0;
+        }
+        int value = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (name.equals(field)) value = intValue(parser);
+            else parser.skipChildren();
+        }
+        return value;
+    }
+
+    // JsonNode.asInt()와 같은 규칙 (숫자 문자열 허용, 객체/배열/없음은 0)
+    private static int intValue(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return 0;
+        }
+        return parser.getValueAsInt(0);
+    }
+
+    private static boolean booleanValue(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return false;
+        }
+        return parser.getValueAsBoolean(false);
+    }
+
+    private static String textValue(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        return parser.getValueAsString("");
+    }
+}
@@ -0,0 +1,252 @@
+package vierasionGameSite.ESCCUP.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// Riot match-v5 원본 JSON 보관소
+// - 추가만 하는(append-only) 세그먼트 파일에 압축해서 저장, gameId당 1건 (같은 경기는 다시 저장하지 않음)
+// - 레코드: [MAGIC 4][gameId 길이 2][gameId][원본 길이 4][압축 길이 4][CRC32 4][압축 데이터]
+// - 읽기는 세그먼트를 메모리 매핑해서 바로 꺼냄, 색인(gameId → 위치)은 시작할 때 세그먼트를 훑어서 복구
+@Component
+public class RiotPayloadArchive {
+
+    private static final int RECORD_MAGIC = 0x52504131; // "RPA1"
+    private static final int HEADER_FIXED_BYTES = 4 + 2 + 4 + 4 + 4;
+    private static final long SEGMENT_MAX_BYTES = 64L * 1024 * 1024; // 세그먼트 하나 최대 64MB
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    @Value("${riot.archive.dir:riot-archive}")
+    private String archiveDir;
+
+    private Path directory;
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    private final Map<Integer, MappedByteBuffer> mappedSegments = new ConcurrentHashMap<>();
+
+    // 현재 쓰기 중인 세그먼트
+    private int activeSegment;
+    private FileChannel activeChannel;
+
+    private record Location(int segment, long offset, int rawLength, int compressedLength, int crc) {
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        directory = Paths.get(archiveDir);
+        Files.createDirectories(directory);
+
+        List<Integer> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .forEach(segments::add);
+        }
+
+        for (int segment : segments) {
+            scanSegment(segment);
+        }
+
+        activeSegment = segments.isEmpty() ? 1 : segments.get(segments.size() - 1);
+        activeChannel = FileChannel.open(segmentPath(activeSegment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        activeChannel.position(activeChannel.size());
+        System.out.println("====== [RiotPayloadArchive] 원본 " + index.size() + "건 (" + directory.toAbsolutePath() + ") ======");
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (activeChannel != null) activeChannel.close();
+    }
+
+    public boolean contains(String gameId) {
+        return index.containsKey(gameId);
+    }
+
+    public Set<String> gameIds() {
+        return Set.copyOf(index.keySet());
+    }
+
+    // 원본 저장 (이미 있는 gameId면 무시)
+    public synchronized void append(String gameId, String json) throws IOException {
+        if (index.containsKey(gameId)) return;
+
+        byte[] raw = json.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = compress(raw);
+        byte[] id = gameId.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc32 = new CRC32();
+        crc32.update(compressed);
+        int crc = (int) crc32.getValue();
+
+        if (activeChannel.size() > 0 && activeChannel.size() + HEADER_FIXED_BYTES + id.length + compressed.length > SEGMENT_MAX_BYTES) {
+            rollSegment();
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_FIXED_BYTES + id.length + compressed.length);
+        record.putInt(RECORD_MAGIC);
+        record.putShort((short) id.length);
+        record.put(id);
+        record.putInt(raw.length);
+        record.putInt(compressed.length);
+        record.putInt(crc);
+        record.put(compressed);
+        record.flip();
+
+        long offset = activeChannel.size();
+        while (record.hasRemaining()) {
+            activeChannel.write(record, offset + record.position());
+        }
+        activeChannel.force(false);
+
+        long dataOffset = offset + HEADER_FIXED_BYTES + id.length;
+        index.put(gameId, new Location(activeSegment, dataOffset, raw.length, compressed.length, crc));
+    }
+
+    // 원본 읽기 (없으면 null)
+    public String read(String gameId) throws IOException {
+        Location location = index.get(gameId);
+        if (location == null) return null;
+
+        MappedByteBuffer mapped = mapped(location.segment(), location.offset() + location.compressedLength());
+        byte[] compressed = new byte[location.compressedLength()];
+        mapped.get((int) location.offset(), compressed, 0, compressed.length); // 절대 위치 읽기 → 여러 스레드가 공유 가능
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(compressed);
+        if ((int) crc32.getValue() != location.crc()) {
+            throw new IOException("보관된 원본 데이터가 손상되었습니다: " + gameId);
+        }
+        return new String(decompress(compressed, location.rawLength()), StandardCharsets.UTF_8);
+    }
+
+    private void rollSegment() throws IOException {
+        activeChannel.close();
+        activeSegment++;
+        activeChannel = FileChannel.open(segmentPath(activeSegment),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    // 세그먼트를 훑어서 색인 복구, 마지막에 잘린 레코드(비정상 종료)는 잘라냄
+    // (잘라내기 전에 매핑이 남아 있으면 안 되므로 여기서는 헤더만 일반 읽기로 확인)
+    private void scanSegment(int segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            ByteBuffer fixed = ByteBuffer.allocate(6);
+            ByteBuffer lengths = ByteBuffer.allocate(12);
+
+            long position = 0;
+            while (position + HEADER_FIXED_BYTES <= size) {
+                fixed.clear();
+                if (!readFully(channel, fixed, position) || fixed.getInt(0) != RECORD_MAGIC) break;
+                int idLength = Short.toUnsignedInt(fixed.getShort(4));
+                if (position + HEADER_FIXED_BYTES + idLength > size) break;
+
+                ByteBuffer id = ByteBuffer.allocate(idLength);
+                lengths.clear();
+                if (!readFully(channel, id, position + 6) || !readFully(channel, lengths, position + 6 + idLength)) break;
+                int rawLength = lengths.getInt(0);
+                int compressedLength = lengths.getInt(4);
+                int crc = lengths.getInt(8);
+                long dataOffset = position + HEADER_FIXED_BYTES + idLength;
+                if (compressedLength < 0 || dataOffset + compressedLength > size) break;
+
+                index.putIfAbsent(new String(id.array(), StandardCharsets.UTF_8),
+                        new Location(segment, dataOffset, rawLength, compressedLength, crc));
+                position = dataOffset + compressedLength;
+            }
+
+            if (position < size) {
+                System.out.println("⚠️ [RiotPayloadArchive] " + segmentPath(segment).getFileName() + " 끝부분 손상 → " + position + " 바이트로 자름");
+                channel.truncate(position);
+            }
+        }
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) return false;
+        }
+        return true;
+    }
+
+    // 세그먼트 매핑 (쓰기 중인 세그먼트가 커졌으면 다시 매핑)
+    private MappedByteBuffer mapped(int segment, long requiredEnd) throws IOException {
+        MappedByteBuffer mapped = mappedSegments.get(segment);
+        if (mapped != null && mapped.capacity() >= requiredEnd) return mapped;
+
+        synchronized (mappedSegments) {
+            mapped = mappedSegments.get(segment);
+            if (mapped != null && mapped.capacity() >= requiredEnd) return mapped;
+            try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            mappedSegments.put(segment, mapped);
+            return mapped;
+        }
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve(String.format("%s%05d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private static byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(byte[] compressed, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, rawLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                read += n;
+            }
+            if (read != rawLength) throw new IOException("원본 길이가 맞지 않습니다.");
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("압축 해제 실패: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
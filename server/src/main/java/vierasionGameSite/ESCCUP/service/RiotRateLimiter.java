@@ -0,0 +1,219 @@
+package vierasionGameSite.ESCCUP.service;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Riot API 호출 속도 제한기
+// - 앱 제한(지역별: asia, kr)과 메서드 제한(지역+엔드포인트별)을 각각 토큰 버킷으로 관리
+// - 버킷 크기/주기는 응답 헤더(X-App-Rate-Limit, X-Method-Rate-Limit)에서 학습하고,
+//   남은 토큰은 *-Count 헤더로 서버 값에 맞춰 보정
+// - 429를 받으면 Retry-After 만큼 해당 범위를 막아두고 대기열에서 기다리게 함
+@Component
+public class RiotRateLimiter {
+
+    // 헤더를 받기 전까지 쓰는 앱 제한 기본값 (개발용 키: 1초 20회, 2분 100회)
+    private static final String DEFAULT_APP_LIMITS = "20:1,100:120";
+    // Retry-After 헤더가 없을 때 기다릴 시간
+    private static final long DEFAULT_RETRY_AFTER_MILLIS = 1000;
+
+    private final Map<String, Scope> scopes = new LinkedHashMap<>();
+
+    // 호출 가능할 때까지 대기 후 토큰 1개 소비 (앱 + 메서드 범위 동시 차감)
+    public void acquire(String region, String method) {
+        while (true) {
+            long wait;
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                Scope app = appScope(region);
+                Scope target = methodScope(region, method);
+                wait = Math.max(app.waitMillis(now), target.waitMillis(now));
+                if (wait == 0) {
+                    app.consume();
+                    target.consume();
+                    return;
+                }
+            }
+            // 가상 스레드가 고정되지 않도록 락 밖에서 대기
+            try {
+                Thread.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Riot API 호출 대기 중 중단되었습니다.");
+            }
+        }
+    }
+
+    // 정상 응답(혹은 429가 아닌 에러 응답)의 헤더로 제한값 학습
+    public synchronized void onResponse(String region, String method, HttpHeaders headers) {
+        if (headers == null) return;
+        appScope(region).learn(headers.getFirst("X-App-Rate-Limit"), headers.getFirst("X-App-Rate-Limit-Count"));
+        methodScope(region, method).learn(headers.getFirst("X-Method-Rate-Limit"), headers.getFirst("X-Method-Rate-Limit-Count"));
+    }
+
+    // 429 응답: Retry-After 동안 해당 범위 차단
+    public synchronized void onRateLimited(String region, String method, HttpHeaders headers) {
+        onResponse(region, method, headers);
+
+        long retryAfterMillis = DEFAULT_RETRY_AFTER_MILLIS;
+        String limitType = null;
+        if (headers != null) {
+            String retryAfter = headers.getFirst("Retry-After");
+            if (retryAfter != null) {
+                try {
+                    retryAfterMillis = Long.parseLong(retryAfter.trim()) * 1000;
+                } catch (NumberFormatException ignored) {
+                    // 날짜 형식 등은 기본값 사용
+                }
+            }
+            limitType = headers.getFirst("X-Rate-Limit-Type");
+        }
+
+        long until = System.currentTimeMillis() + retryAfterMillis;
+        // application 제한이면 지역 전체, 그 외(method, service)는 해당 엔드포인트만 차단
+        Scope blocked = "application".equalsIgnoreCase(limitType) ? appScope(region) : methodScope(region, method);
+        blocked.blockUntil(until);
+        System.out.println("⚠️ [Riot API] 429 (" + region + ":" + method + ", " + limitType + ") - " + retryAfterMillis + "ms 대기");
+    }
+
+    // 현재 여유량 (관리자 모니터링용)
+    public synchronized List<Map<String, Object>> snapshot() {
+        long now = System.currentTimeMillis();
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Map.Entry<String, Scope> entry : scopes.entrySet()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("scope", entry.getKey());
+            row.put("blockedMillis", Math.max(0, entry.getValue().blockedUntil - now));
+            row.put("limits", entry.getValue().describe(now));
+            result.add(row);
+        }
+        return result;
+    }
+
+    private Scope appScope(String region) {
+        return scopes.computeIfAbsent("app:" + region, k -> new Scope(DEFAULT_APP_LIMITS));
+    }
+
+    private Scope methodScope(String region, String method) {
+        // 메서드 제한은 헤더로 학습하기 전까지는 앱 제한만 적용
+        return scopes.computeIfAbsent("method:" + region + ":" + method, k -> new Scope(null));
+    }
+
+    // 하나의 제한 범위 (예: "20:1,100:120" -> 버킷 2개)
+    private static class Scope {
+        private List<Bucket> buckets = new ArrayList<>();
+        private String definition;
+        private long blockedUntil;
+
+        Scope(String definition) {
+            if (definition != null) learn(definition, null);
+        }
+
+        long waitMillis(long now) {
+            long wait = Math.max(0, blockedUntil - now);
+            for (Bucket bucket : buckets) {
+                wait = Math.max(wait, bucket.waitMillis(now));
+            }
+            return wait;
+        }
+
+        void consume() {
+            for (Bucket bucket : buckets) bucket.tokens -= 1;
+        }
+
+        void blockUntil(long until) {
+            blockedUntil = Math.max(blockedUntil, until);
+        }
+
+        // limits: "20:1,100:120", counts: "3:1,40:120"
+        void learn(String limits, String counts) {
+            if (limits == null || limits.isBlank()) return;
+            long now = System.currentTimeMillis();
+
+            if (!limits.equals(definition)) {
+                List<Bucket> learned = new ArrayList<>();
+                for (String part : limits.split(",")) {
+                    String[] pair = part.trim().split(":");
+                    if (pair.length != 2) continue;
+                    try {
+                        int limit = Integer.parseInt(pair[0].trim());
+                        long windowSeconds = Long.parseLong(pair[1].trim());
+                        if (limit > 0 && windowSeconds > 0) learned.add(new Bucket(limit, windowSeconds * 1000, now));
+                    } catch (NumberFormatException ignored) {
+                        // 잘못된 값은 건너뜀
+                    }
+                }
+                buckets = learned;
+                definition = limits;
+            }
+
+            if (counts == null || counts.isBlank()) return;
+            for (String part : counts.split(",")) {
+                String[] pair = part.trim().split(":");
+                if (pair.length != 2) continue;
+                long windowMillis;
+                int used;
+                try {
+                    windowMillis = Long.parseLong(pair[1].trim()) * 1000;
+                    used = Integer.parseInt(pair[0].trim());
+                } catch (NumberFormatException ignored) {
+                    continue; // 잘못된 값은 건너뜀
+                }
+                for (Bucket bucket : buckets) {
+                    if (bucket.windowMillis == windowMillis) bucket.sync(used, now);
+                }
+            }
+        }
+
+        List<Map<String, Object>> describe(long now) {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (Bucket bucket : buckets) {
+                bucket.refill(now);
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("limit", bucket.limit);
+                row.put("windowSeconds", bucket.windowMillis / 1000);
+                row.put("available", (int) Math.floor(Math.max(0, bucket.tokens)));
+                rows.add(row);
+            }
+            return rows;
+        }
+    }
+
+    // 토큰 버킷: limit개를 windowMillis 동안 고르게 채움
+    private static class Bucket {
+        private final int limit;
+        private final long windowMillis;
+        private double tokens;
+        private long lastRefill;
+
+        Bucket(int limit, long windowMillis, long now) {
+            this.limit = limit;
+            this.windowMillis = windowMillis;
+            this.tokens = limit;
+            this.lastRefill = now;
+        }
+
+        void refill(long now) {
+            if (now > lastRefill) {
+                tokens = Math.min(limit, tokens + (now - lastRefill) * (double) limit / windowMillis);
+                lastRefill = now;
+            }
+        }
+
+        long waitMillis(long now) {
+            refill(now);
+            if (tokens >= 1) return 0;
+            return (long) Math.ceil((1 - tokens) * windowMillis / limit);
+        }
+
+        // 서버가 알려준 사용량보다 여유가 많다고 믿지 않도록 보정
+        void sync(int used, long now) {
+            refill(now);
+            tokens = Math.min(tokens, limit - used);
+        }
+    }
+}
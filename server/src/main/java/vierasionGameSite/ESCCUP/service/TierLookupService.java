@@ -0,0 +1,113 @@
+package vierasionGameSite.ESCCUP.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// DB 미등록 참가자의 현재 티어 조회 (league-v4)
+// - puuid(없으면 summonerId) 기준 캐시: TTL + 최대 개수 초과 시 오래 안 쓴 항목부터 제거
+// - 같은 소환사를 동시에 조회하면 API 호출은 한 번만 (진행 중인 조회 공유)
+// - 조회는 가상 스레드에서 병렬로 수행 → 경기당 지연은 왕복 1회 수준
+@Service
+@RequiredArgsConstructor
+public class TierLookupService {
+
+    private static final String UNRANKED = "Unranked";
+    private static final long TTL_MILLIS = 30 * 60 * 1000L; // 30분 (한 대회일 동안 같은 시리즈 재사용)
+    private static final int MAX_ENTRIES = 5000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final RiotApiClient riotApiClient;
+
+    // accessOrder = true → LRU 순서
+    private final Map<String, CachedTier> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedTier> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    // 비동기 조회 (캐시 적중 시 즉시 완료된 Future 반환)
+    public CompletableFuture<String> lookupTier(String puuid, String summonerId) {
+        boolean hasPuuid = puuid != null && !puuid.isEmpty() && !"BOT".equals(puuid);
+        boolean hasSummonerId = summonerId != null && !summonerId.isEmpty() && !"0".equals(summonerId);
+        if (!hasPuuid && !hasSummonerId) return CompletableFuture.completedFuture(UNRANKED);
+
+        String key = hasPuuid ? "puuid:" + puuid : "summoner:" + summonerId;
+        String cached = getCached(key);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, created);
+        if (running != null) return running;
+
+        executor.execute(() -> {
+            String tier = null;
+            try {
+                tier = fetchTier(hasSummonerId ? summonerId : null, hasPuuid ? puuid : null);
+                if (tier != null) putCached(key, tier); // 에러 결과(null)는 캐시하지 않음
+            } finally {
+                inFlight.remove(key, created);
+                created.complete(tier != null ? tier : UNRANKED);
+            }
+        });
+        return created;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private synchronized String getCached(String key) {
+        CachedTier entry = cache.get(key);
+        if (entry == null) return null;
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            cache.remove(key);
+            return null;
+        }
+        return entry.tier;
+    }
+
+    private synchronized void putCached(String key, String tier) {
+        cache.put(key, new CachedTier(tier, System.currentTimeMillis() + TTL_MILLIS));
+    }
+
+    // 솔로랭크 우선, 없으면 자유랭크, 둘 다 없으면 언랭크. 호출 실패 시 null
+    private String fetchTier(String summonerId, String puuid) {
+        try {
+            String response = summonerId != null
+                    ? riotApiClient.getLeagueEntries(summonerId)
+                    : riotApiClient.getLeagueEntriesByPuuid(puuid);
+            JsonNode leagues = objectMapper.readTree(response);
+
+            for (JsonNode league : leagues) {
+                if ("RANKED_SOLO_5x5".equals(league.get("queueType").asText())) {
+                    return league.get("tier").asText() + " " + league.get("rank").asText();
+                }
+            }
+            for (JsonNode league : leagues) {
+                if ("RANKED_FLEX_SR".equals(league.get("queueType").asText())) {
+                    return league.get("tier").asText() + " " + league.get("rank").asText();
+                }
+            }
+            return UNRANKED;
+        } catch (Exception e) {
+            return null; // 어떤 에러가 나도 무시 (호출한 쪽에는 언랭크로 전달)
+        }
+    }
+
+    private record CachedTier(String tier, long expiresAt) {
+    }
+}
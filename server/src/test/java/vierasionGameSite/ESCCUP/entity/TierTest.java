@@ -0,0 +1,73 @@
+package vierasionGameSite.ESCCUP.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// 티어 문자열 → 서열/점수/표시 문자열 변환
+class TierTest {
+
+    @Test
+    void parsesEnglishKoreanAndShortForms() {
+        assertEquals(1, Tier.ordinalOf("Iron 4"));
+        assertEquals(1, Tier.ordinalOf("IRON IV"));
+        assertEquals(9, Tier.ordinalOf("Silver"));          // 디비전이 없으면 4
+        assertEquals(27, Tier.ordinalOf("DIAMOND II"));
+        assertEquals(27, Tier.ordinalOf("다이아 2"));
+        assertEquals(27, Tier.ordinalOf("다이아2"));
+        assertEquals(27, Tier.ordinalOf("D2"));
+        assertEquals(22, Tier.ordinalOf("e3"));
+        assertEquals(28, Tier.ordinalOf("diamond i"));
+    }
+
+    @Test
+    void apexTiersHaveNoDivision() {
+        assertEquals(29, Tier.ordinalOf("Master"));
+        assertEquals(29, Tier.ordinalOf("마스터"));
+        assertEquals(30, Tier.ordinalOf("Grandmaster"));     // MASTER보다 먼저 확인
+        assertEquals(30, Tier.ordinalOf("그마"));
+        assertEquals(31, Tier.ordinalOf("CHALLENGER"));
+        assertEquals(Tier.MAX_ORDINAL, Tier.ordinalOf("챌린저"));
+    }
+
+    @Test
+    void unknownOrEmptyIsUnranked() {
+        assertEquals(Tier.UNRANKED_ORDINAL, Tier.ordinalOf(null));
+        assertEquals(Tier.UNRANKED_ORDINAL, Tier.ordinalOf("  "));
+        assertEquals(Tier.UNRANKED_ORDINAL, Tier.ordinalOf("Unranked"));
+        assertEquals(Tier.UNRANKED_ORDINAL, Tier.ordinalOf("언랭"));
+        assertEquals(Tier.UNRANKED_ORDINAL, Tier.ordinalOf("???"));
+    }
+
+    @Test
+    void upperOrdinalDefaultsToDivisionOne() {
+        assertEquals(25, Tier.ordinalOf("Diamond"));
+        assertEquals(28, Tier.upperOrdinalOf("Diamond"));
+        assertEquals(26, Tier.upperOrdinalOf("Diamond 3"));  // 디비전이 있으면 그대로
+        assertEquals(29, Tier.upperOrdinalOf("Master"));
+    }
+
+    @Test
+    void ratingIsOneHundredPerDivision() {
+        assertNull(Tier.ratingOf(Tier.UNRANKED_ORDINAL));
+        assertEquals(0, Tier.ratingOf(1));
+        assertEquals(100, Tier.ratingOf(2));
+        assertEquals(2700, Tier.ratingOf(Tier.ordinalOf("DIAMOND I")));
+        assertEquals(2800, Tier.ratingOf(Tier.ordinalOf("MASTER")));
+        assertEquals(3000, Tier.ratingOf(Tier.MAX_ORDINAL));
+    }
+
+    @Test
+    void labelRoundTripsEveryOrdinal() {
+        assertEquals("UNRANKED", Tier.labelOf(Tier.UNRANKED_ORDINAL));
+        assertEquals("IRON IV", Tier.labelOf(1));
+        assertEquals("DIAMOND I", Tier.labelOf(28));
+        assertEquals("MASTER", Tier.labelOf(29));
+        assertEquals("GRANDMASTER", Tier.labelOf(30));
+        assertEquals("CHALLENGER", Tier.labelOf(31));
+        for (int ordinal = 0; ordinal <= Tier.MAX_ORDINAL; ordinal++) {
+            assertEquals(ordinal, Tier.ordinalOf(Tier.labelOf(ordinal)), Tier.labelOf(ordinal));
+        }
+    }
+}
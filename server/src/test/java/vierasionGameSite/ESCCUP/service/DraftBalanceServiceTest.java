@@ -0,0 +1,107 @@
+package vierasionGameSite.ESCCUP.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 드래프트 자동 밸런스: 포지션 비트 변환 + 100명 이상 배정 결과의 불변식
+// 담금질은 시간 제한 없이 맞바꾸기 횟수만 정해서 돌림 (기계 속도와 상관없이 결과가 같음)
+class DraftBalanceServiceTest {
+
+    private static final int TOP = 1, JUG = 1 << 1, MID = 1 << 2, ADC = 1 << 3, SUP = 1 << 4;
+    private static final int ALL = TOP | JUG | MID | ADC | SUP;
+    private static final long STEPS = 200_000;
+
+    @Test
+    void roleMaskReadsEnglishKoreanAndCombinedPositions() {
+        assertEquals(TOP, DraftBalanceService.roleMask("TOP"));
+        assertEquals(JUG, DraftBalanceService.roleMask("Jungle"));
+        assertEquals(JUG, DraftBalanceService.roleMask("정글"));
+        assertEquals(MID | ADC, DraftBalanceService.roleMask("MID/ADC"));
+        assertEquals(ADC, DraftBalanceService.roleMask("bot"));
+        assertEquals(SUP, DraftBalanceService.roleMask("서폿"));
+        assertEquals(SUP, DraftBalanceService.roleMask("Support"));
+    }
+
+    @Test
+    void roleMaskTreatsUnknownAsAnyPosition() {
+        assertEquals(ALL, DraftBalanceService.roleMask(null));
+        assertEquals(ALL, DraftBalanceService.roleMask(" "));
+        assertEquals(ALL, DraftBalanceService.roleMask("ALL"));
+        assertEquals(ALL, DraftBalanceService.roleMask("아무거나"));
+    }
+
+    @Test
+    void balancesOneHundredTenPlayersIntoFullTeams() {
+        int teamCount = 22;
+        int n = teamCount * DraftBalanceService.TEAM_SIZE;
+        double[] rating = new double[n];
+        int[] roles = new int[n];
+        fill(rating, roles, new SplittableRandom(42));
+
+        DraftBalanceService.Solution best = solveOnce(rating, roles, teamCount, 42);
+
+        // 모든 선수가 정확히 한 팀에, 팀마다 정원만큼
+        assertEquals(n, best.teamOf().length);
+        int[] sizes = new int[teamCount];
+        for (int team : best.teamOf()) {
+            assertTrue(team >= 0 && team < teamCount, "팀 번호: " + team);
+            sizes[team]++;
+        }
+        for (int size : sizes) assertEquals(DraftBalanceService.TEAM_SIZE, size);
+        assertTrue(best.cost() <= best.startCost(), best.cost() + " > " + best.startCost());
+    }
+
+    @Test
+    void unevenPlayerCountSpreadsRemainderOverFirstTeams() {
+        int teamCount = 4;
+        double[] rating = new double[18];
+        int[] roles = new int[18];
+        fill(rating, roles, new SplittableRandom(7));
+
+        DraftBalanceService.Solution best = solveOnce(rating, roles, teamCount, 7);
+
+        int[] sizes = new int[teamCount];
+        for (int team : best.teamOf()) sizes[team]++;
+        Arrays.sort(sizes);
+        assertArrayEquals(new int[]{4, 4, 5, 5}, sizes);
+        assertTrue(best.cost() <= best.startCost());
+    }
+
+    @Test
+    void sameSeedAndStepBudgetGiveSameResult() {
+        double[] rating = new double[40];
+        int[] roles = new int[40];
+        fill(rating, roles, new SplittableRandom(3));
+
+        DraftBalanceService.Solution a = solveOnce(rating, roles, 8, 3);
+        DraftBalanceService.Solution b = solveOnce(rating, roles, 8, 3);
+        assertArrayEquals(a.teamOf(), b.teamOf());
+        assertEquals(a.cost(), b.cost());
+    }
+
+    // 아이언 4 ~ 챌린저 사이 점수, 포지션은 한 가지씩 고르게 (3명 중 1명은 아무 포지션이나)
+    private static void fill(double[] rating, int[] roles, SplittableRandom random) {
+        for (int i = 0; i < rating.length; i++) {
+            rating[i] = random.nextInt(0, 3001);
+            roles[i] = i % 3 == 0 ? ALL : 1 << (i % 5);
+        }
+    }
+
+    // 작업 스레드 하나, 시간 제한 없이 STEPS번만
+    private static DraftBalanceService.Solution solveOnce(double[] rating, int[] roles, int teamCount, long seed) {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            return DraftBalanceService.solve(rating, roles, teamCount, Long.MAX_VALUE, STEPS, seed, 1, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
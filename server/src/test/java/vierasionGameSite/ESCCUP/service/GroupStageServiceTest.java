@@ -0,0 +1,214 @@
+package vierasionGameSite.ESCCUP.service;
+
+import org.junit.jupiter.api.Test;
+import vierasionGameSite.ESCCUP.service.GroupStageService.Group;
+import vierasionGameSite.ESCCUP.service.GroupStageService.Row;
+import vierasionGameSite.ESCCUP.service.GroupStageService.Standing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 조별 리그 일정(원형 순환) / 스위스 짝짓기(재대결 금지, 부전승) / 순위 동률 처리
+// 경기 행: {조 이름, 라운드, stage, status, 블루 팀, 레드 팀, 승리 팀}
+class GroupStageServiceTest {
+
+    private long nextMatchId = 1;
+
+    @Test
+    void roundRobinMeetsEveryOpponentOnceAndOncePerRound() {
+        List<Long> teams = ids(6);
+        List<Object[]> rows = GroupStageService.roundRobin("A조", teams);
+
+        assertEquals(15, rows.size());
+        Set<String> pairs = new HashSet<>();
+        Map<Integer, Set<Long>> perRound = new HashMap<>();
+        Map<Long, Integer> blue = new HashMap<>();
+        for (Object[] r : rows) {
+            Long a = (Long) r[4], b = (Long) r[5];
+            assertTrue(pairs.add(key(a, b)), "재대결: " + key(a, b));
+            Set<Long> playing = perRound.computeIfAbsent((Integer) r[1], k -> new HashSet<>());
+            assertTrue(playing.add(a) && playing.add(b), "한 라운드에 두 번 출전: " + r[1]);
+            blue.merge(a, 1, Integer::sum);
+        }
+        assertEquals(5, perRound.size());
+        perRound.values().forEach(playing -> assertEquals(6, playing.size()));
+        // 5경기 중 블루 2~3번
+        for (Long team : teams) {
+            int b = blue.getOrDefault(team, 0);
+            assertTrue(b == 2 || b == 3, "팀 " + team + " 블루 " + b + "번");
+        }
+    }
+
+    @Test
+    void roundRobinWithOddTeamsRestsOneTeamPerRound() {
+        List<Object[]> rows = GroupStageService.roundRobin("B조", ids(5));
+
+        assertEquals(10, rows.size());
+        Map<Integer, Set<Long>> perRound = new HashMap<>();
+        for (Object[] r : rows) {
+            Set<Long> playing = perRound.computeIfAbsent((Integer) r[1], k -> new HashSet<>());
+            playing.add((Long) r[4]);
+            playing.add((Long) r[5]);
+        }
+        assertEquals(5, perRound.size());
+        perRound.values().forEach(playing -> assertEquals(4, playing.size()));
+    }
+
+    @Test
+    void swissAvoidsRematchesEvenWhenNeighboursAlreadyMet() {
+        Group group = group(4);
+
+        // 1라운드: 시드 상위 절반 vs 하위 절반 → 1-3, 2-4
+        List<Object[]> round1 = GroupStageService.pair(group, 1, true);
+        assertEquals(Set.of(key(1L, 3L), key(2L, 4L)), pairs(round1));
+        result(group, 1, 1, 3, 2, 0);
+        result(group, 1, 2, 4, 2, 1);
+
+        // 2라운드: 순위 1, 2, 4, 3 → 인접한 팀끼리 1-2, 4-3
+        List<Object[]> round2 = GroupStageService.pair(group, 2, false);
+        assertEquals(Set.of(key(1L, 2L), key(3L, 4L)), pairs(round2));
+        result(group, 2, 1, 2, 2, 0);
+        result(group, 2, 3, 4, 2, 0);
+
+        // 3라운드: 1번은 2, 3번과 이미 만났으므로 4번과, 남은 2-3
+        List<Object[]> round3 = GroupStageService.pair(group, 3, false);
+        assertEquals(Set.of(key(1L, 4L), key(2L, 3L)), pairs(round3));
+    }
+
+    @Test
+    void swissByeGoesToLowestRankedTeamWithoutOne() {
+        Group group = group(5);
+
+        List<Object[]> round1 = GroupStageService.pair(group, 1, true);
+        assertEquals(5L, byeOf(round1)); // 1라운드는 가장 낮은 시드
+        GroupStageService.put(group, new Row(nextMatchId++, 1, 5L, null, 5L, 0, 0, true));
+        assertEquals(Set.of(key(1L, 3L), key(2L, 4L)), pairs(round1));
+        result(group, 1, 1, 3, 2, 0);
+        result(group, 1, 4, 2, 2, 1);
+
+        // 순위: 1, 4, 5(부전승) / 2(-1), 3(-2) → 이미 부전승을 받은 5번이 아니라 꼴찌 3번에게
+        List<Object[]> round2 = GroupStageService.pair(group, 2, false);
+        assertEquals(3L, byeOf(round2));
+        assertEquals(3, round2.size());
+    }
+
+    @Test
+    void headToHeadBreaksTieBeforeGameDifferential() {
+        Group group = group(4);
+        result(group, 1, 1, 2, 2, 1); // 동률인 1, 2번 중 1번이 맞대결 승
+        result(group, 1, 1, 3, 2, 1);
+        result(group, 1, 4, 1, 2, 1);
+        result(group, 1, 2, 3, 2, 0); // 2번이 세트 득실은 더 좋음 (+3 vs +1)
+        result(group, 1, 2, 4, 2, 0);
+
+        assertEquals(List.of(1L, 2L, 4L, 3L), ranking(group));
+    }
+
+    @Test
+    void gameDifferentialBreaksCircularHeadToHead() {
+        Group group = group(3);
+        result(group, 1, 1, 2, 2, 0); // 1 > 2 > 3 > 1 물고 물림 → 승자승도 모두 1
+        result(group, 1, 2, 3, 2, 1);
+        result(group, 1, 3, 1, 2, 1);
+
+        // 세트 득실: 1번 +1, 3번 0, 2번 -1
+        assertEquals(List.of(1L, 3L, 2L), ranking(group));
+    }
+
+    @Test
+    void pairsLargeSwissWithoutRematchesOrDoubleBookings() {
+        for (int teams : new int[]{128, 127}) {
+            nextMatchId = 1;
+            Group group = group(teams);
+            SplittableRandom random = new SplittableRandom(7);
+            Set<String> met = new HashSet<>();
+            Set<Long> hadBye = new HashSet<>();
+
+            for (int round = 1; round <= 7; round++) {
+                List<Object[]> rows = GroupStageService.pair(group, round, round == 1);
+
+                // 모든 팀이 라운드마다 정확히 한 번 (홀수면 한 팀만 부전승)
+                assertEquals((teams + 1) / 2, rows.size());
+                Set<Long> playing = new HashSet<>();
+                Long bye = byeOf(rows);
+                if (teams % 2 == 1) {
+                    assertTrue(bye != null, round + "라운드 부전승 없음");
+                    assertTrue(hadBye.add(bye), round + "라운드 부전승 중복: " + bye);
+                    playing.add(bye);
+                    GroupStageService.put(group, new Row(nextMatchId++, round, bye, null, bye, 0, 0, true));
+                } else {
+                    assertNull(bye);
+                }
+                for (Object[] r : rows) {
+                    if (r[5] == null) continue;
+                    Long a = (Long) r[4], b = (Long) r[5];
+                    assertTrue(playing.add(a) && playing.add(b), round + "라운드 두 번 출전: " + key(a, b));
+                    assertTrue(met.add(key(a, b)), round + "라운드 재대결: " + key(a, b));
+                    // 시드가 높은(ID가 작은) 팀이 70% 확률로 승리
+                    boolean favourite = random.nextInt(100) < 70;
+                    long winner = favourite == (a < b) ? a : b;
+                    long loser = winner == a ? b : a;
+                    result(group, round, winner, loser, 2, random.nextInt(2));
+                }
+                assertEquals(teams, playing.size());
+            }
+        }
+    }
+
+    // --- 도우미 ---
+
+    private static List<Long> ids(int count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+
+    private static Group group(int teams) {
+        Group group = new Group("테스트");
+        for (Long id : ids(teams)) group.standings.put(id, new Standing(id, "Team " + id));
+        return group;
+    }
+
+    // winner가 블루, winnerGames:loserGames 로 끝난 경기 반영
+    private void result(Group group, int round, long winner, long loser, int winnerGames, int loserGames) {
+        GroupStageService.put(group, new Row(nextMatchId++, round, winner, loser, winner, winnerGames, loserGames, false));
+    }
+
+    private static List<Long> ranking(Group group) {
+        List<Long> order = new ArrayList<>();
+        for (Standing s : GroupStageService.rank(group)) order.add(s.teamId);
+        return order;
+    }
+
+    private static Set<String> pairs(List<Object[]> rows) {
+        Set<String> pairs = new HashSet<>();
+        for (Object[] r : rows) {
+            if (r[5] != null) pairs.add(key((Long) r[4], (Long) r[5]));
+        }
+        return pairs;
+    }
+
+    private static Long byeOf(List<Object[]> rows) {
+        Long bye = null;
+        for (Object[] r : rows) {
+            if (GroupStageService.STATUS_BYE.equals(r[3])) {
+                assertFalse(bye != null, "부전승이 두 번");
+                bye = (Long) r[4];
+            }
+        }
+        return bye;
+    }
+
+    private static String key(Long a, Long b) {
+        return Math.min(a, b) + "-" + Math.max(a, b);
+    }
+}
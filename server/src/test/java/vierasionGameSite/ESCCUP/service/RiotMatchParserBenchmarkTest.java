@@ -0,0 +1,55 @@
+package vierasionGameSite.ESCCUP.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 스트리밍 파서(RiotMatchParser) vs 기존 JsonNode 트리 방식: 1회 파싱당 시간/할당량 측정
+// 기계 상태에 따라 결과가 달라지므로 기본 test 작업에서는 빠짐 → ./gradlew benchmark 로 실행
+@Tag("benchmark")
+class RiotMatchParserBenchmarkTest {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 500;
+
+    private final RiotMatchParser parser = new RiotMatchParser();
+
+    @Test
+    void streamingParserAllocatesLessThanTreeParser() throws Exception {
+        String json = RiotMatchSamples.samplePayload();
+
+        for (int i = 0; i < WARMUP; i++) {
+            RiotMatchSamples.parseWithTree(json);
+            parser.parse(json);
+        }
+
+        long[] tree = measure(() -> RiotMatchSamples.parseWithTree(json));
+        long[] streaming = measure(() -> parser.parse(json));
+
+        System.out.printf("[RiotMatchParser 벤치마크] payload %,d bytes%n", json.length());
+        System.out.printf("  tree      : %,d ns/op, %,d bytes/op%n", tree[0], tree[1]);
+        System.out.printf("  streaming : %,d ns/op, %,d bytes/op%n", streaming[0], streaming[1]);
+
+        assertTrue(streaming[1] < tree[1], "스트리밍 파서가 트리 파서보다 적게 할당해야 합니다.");
+    }
+
+    private interface ParseCall {
+        Object run() throws Exception;
+    }
+
+    // [평균 ns, 평균 할당 바이트]
+    private long[] measure(ParseCall call) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new long[]{elapsed / ITERATIONS, allocated / ITERATIONS};
+    }
+}
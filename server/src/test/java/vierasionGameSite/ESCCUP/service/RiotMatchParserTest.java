@@ -0,0 +1,53 @@
+package vierasionGameSite.ESCCUP.service;
+
+import org.junit.jupiter.api.Test;
+import vierasionGameSite.ESCCUP.entity.Match;
+import vierasionGameSite.ESCCUP.entity.MatchDetail;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 스트리밍 파서(RiotMatchParser)가 기존 JsonNode 트리 방식과 같은 결과를 내는지 확인
+// (시간/할당량 비교는 RiotMatchParserBenchmarkTest, ./gradlew benchmark)
+class RiotMatchParserTest {
+
+    private final RiotMatchParser parser = new RiotMatchParser();
+
+    @Test
+    void streamingParserMatchesTreeParser() throws Exception {
+        String json = RiotMatchSamples.samplePayload();
+
+        Match expected = RiotMatchSamples.parseWithTree(json);
+        Match actual = parser.parse(json).match();
+
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getWinningSide(), actual.getWinningSide());
+        assertEquals(expected.getBlueBans(), actual.getBlueBans());
+        assertEquals(expected.getRedBans(), actual.getRedBans());
+        assertEquals(expected.getBlueDragonKills(), actual.getBlueDragonKills());
+        assertEquals(expected.getRedTowerKills(), actual.getRedTowerKills());
+        assertEquals(expected.getMatchDetails().size(), actual.getMatchDetails().size());
+        for (int i = 0; i < expected.getMatchDetails().size(); i++) {
+            MatchDetail e = expected.getMatchDetails().get(i);
+            MatchDetail a = actual.getMatchDetails().get(i);
+            assertEquals(e.getPlayerName(), a.getPlayerName());
+            assertEquals(e.getPlayerTier(), a.getPlayerTier());
+            assertEquals(e.getSide(), a.getSide());
+            assertEquals(e.getPosition(), a.getPosition());
+            assertEquals(e.getChampionName(), a.getChampionName());
+            assertEquals(e.getChampionId(), a.getChampionId());
+            assertEquals(e.getKills(), a.getKills());
+            assertEquals(e.getDeaths(), a.getDeaths());
+            assertEquals(e.getAssists(), a.getAssists());
+            assertEquals(e.getTotalDamage(), a.getTotalDamage());
+            assertEquals(e.getTotalGold(), a.getTotalGold());
+            assertEquals(e.getCs(), a.getCs());
+            assertEquals(e.getChampLevel(), a.getChampLevel());
+            assertEquals(e.getItem0(), a.getItem0());
+            assertEquals(e.getItem6(), a.getItem6());
+            assertEquals(e.getSpell1Id(), a.getSpell1Id());
+            assertEquals(e.getSpell2Id(), a.getSpell2Id());
+            assertEquals(e.getMainRuneId(), a.getMainRuneId());
+            assertEquals(e.getSubRuneStyleId(), a.getSubRuneStyleId());
+        }
+    }
+}
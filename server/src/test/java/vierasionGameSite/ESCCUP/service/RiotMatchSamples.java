@@ -0,0 +1,194 @@
+package vierasionGameSite.ESCCUP.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import vierasionGameSite.ESCCUP.entity.Match;
+import vierasionGameSite.ESCCUP.entity.MatchDetail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// RiotMatchParser 테스트/벤치마크 공용: 비교 기준이 되는 JsonNode 트리 파서 + match-v5 샘플 응답
+final class RiotMatchSamples {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RiotMatchSamples() {
+    }
+
+    // --- 기존 JsonNode 트리 방식 (비교 기준) ---
+
+    static Match parseWithTree(String json) throws Exception {
+        JsonNode info = objectMapper.readTree(json).path("info");
+        Match match = new Match();
+        boolean isBlueWin = false;
+
+        for (JsonNode team : info.path("teams")) {
+            JsonNode objs = team.path("objectives");
+            StringBuilder banSb = new StringBuilder();
+            for (JsonNode ban : team.path("bans")) {
+                int champId = ban.path("championId").asInt();
+                if (champId > 0) {
+                    if (banSb.length() > 0) banSb.append(",");
+                    banSb.append(champId);
+                }
+            }
+            if (team.path("teamId").asInt() == 100) {
+                match.setBlueBaronKills(objs.path("baron").path("kills").asInt(0));
+                match.setBlueDragonKills(objs.path("dragon").path("kills").asInt(0));
+                match.setBlueTowerKills(objs.path("tower").path("kills").asInt(0));
+                match.setBlueBans(banSb.toString());
+                if (team.path("win").asBoolean()) isBlueWin = true;
+            } else {
+                match.setRedBaronKills(objs.path("baron").path("kills").asInt(0));
+                match.setRedDragonKills(objs.path("dragon").path("kills").asInt(0));
+                match.setRedTowerKills(objs.path("tower").path("kills").asInt(0));
+                match.setRedBans(banSb.toString());
+            }
+        }
+
+        List<MatchDetail> details = new ArrayList<>();
+        for (JsonNode p : info.path("participants")) {
+            MatchDetail detail = new MatchDetail();
+            String riotIdName = p.path("riotIdGameName").asText();
+            String summonerName = p.path("summonerName").asText();
+            boolean isBot = "BOT".equals(p.path("puuid").asText()) || (riotIdName.isEmpty() && summonerName.isEmpty());
+            if (riotIdName.isEmpty()) riotIdName = summonerName;
+            if (riotIdName.isEmpty()) riotIdName = "Unknown Bot";
+            detail.setPlayerName(riotIdName);
+            if (isBot) detail.setPlayerTier("Bot");
+
+            detail.setChampionName(p.path("championName").asText());
+            detail.setChampionId(p.path("championId").asInt());
+            detail.setKills(p.path("kills").asInt());
+            detail.setDeaths(p.path("deaths").asInt());
+            detail.setAssists(p.path("assists").asInt());
+            detail.setTotalDamage(p.path("totalDamageDealtToChampions").asInt());
+            detail.setTotalGold(p.path("goldEarned").asInt());
+            detail.setCs(p.path("totalMinionsKilled").asInt() + p.path("neutralMinionsKilled").asInt());
+            detail.setChampLevel(p.path("champLevel").asInt());
+            detail.setItem0(p.path("item0").asInt());
+            detail.setItem1(p.path("item1").asInt());
+            detail.setItem2(p.path("item2").asInt());
+            detail.setItem3(p.path("item3").asInt());
+            detail.setItem4(p.path("item4").asInt());
+            detail.setItem5(p.path("item5").asInt());
+            detail.setItem6(p.path("item6").asInt());
+            detail.setSpell1Id(p.path("summoner1Id").asInt(0));
+            detail.setSpell2Id(p.path("summoner2Id").asInt(0));
+
+            for (JsonNode style : p.path("perks").path("styles")) {
+                String desc = style.path("description").asText();
+                if ("primaryStyle".equals(desc)) {
+                    detail.setMainRuneId(style.path("selections").path(0).path("perk").asInt(0));
+                } else if ("subStyle".equals(desc)) {
+                    detail.setSubRuneStyleId(style.path("style").asInt(0));
+                }
+            }
+
+            int teamId = p.path("teamId").asInt();
+            detail.setSide(teamId == 100 ? "BLUE" : "RED");
+            String pos = p.path("teamPosition").asText();
+            if (pos.isEmpty() || "Invalid".equalsIgnoreCase(pos)) pos = p.path("individualPosition").asText();
+            if (pos.isEmpty() || "Invalid".equalsIgnoreCase(pos)) pos = "ANY";
+            detail.setPosition(pos);
+            details.add(detail);
+        }
+
+        match.setMatchDetails(details);
+        match.setScore(isBlueWin ? "1:0" : "0:1");
+        match.setWinningSide(isBlueWin ? "BLUE" : "RED");
+        return match;
+    }
+
+    // --- 실제 match-v5 응답과 비슷한 크기/구조의 샘플 (challenges, missions 등 안 쓰는 필드 포함) ---
+
+    static String samplePayload() throws Exception {
+        ObjectNode root = objectMapper.createObjectNode();
+        ObjectNode metadata = root.putObject("metadata");
+        metadata.put("matchId", "KR_7000000000");
+        ArrayNode puuids = metadata.putArray("participants");
+
+        ObjectNode info = root.putObject("info");
+        info.put("gameDuration", 1834);
+        info.put("queueId", 0);
+        info.put("gameMode", "CLASSIC");
+
+        String[] positions = {"TOP", "JUNGLE", "MIDDLE", "BOTTOM", "UTILITY"};
+        ArrayNode participants = info.putArray("participants");
+        for (int i = 0; i < 10; i++) {
+            ObjectNode p = participants.addObject();
+            String puuid = "puuid-" + i + "-" + "x".repeat(60);
+            puuids.add(puuid);
+            p.put("participantId", i + 1);
+            p.put("puuid", puuid);
+            p.put("summonerId", "summoner-" + i);
+            p.put("riotIdGameName", i == 9 ? "" : "Player " + i);
+            p.put("riotIdTagline", "KR" + i);
+            p.put("summonerName", "");
+            p.put("teamId", i < 5 ? 100 : 200);
+            p.put("championName", "Champion" + i);
+            p.put("championId", 100 + i);
+            p.put("kills", i);
+            p.put("deaths", 10 - i);
+            p.put("assists", i * 2);
+            p.put("totalDamageDealtToChampions", 10000 + i * 1234);
+            p.put("goldEarned", 9000 + i * 321);
+            p.put("totalMinionsKilled", 150 + i);
+            p.put("neutralMinionsKilled", i * 3);
+            p.put("champLevel", 14 + i % 4);
+            for (int item = 0; item <= 6; item++) p.put("item" + item, 3000 + item * 10 + i);
+            p.put("summoner1Id", 4);
+            p.put("summoner2Id", 14);
+            p.put("teamPosition", i == 4 ? "" : positions[i % 5]);
+            p.put("individualPosition", i == 4 ? "Invalid" : positions[i % 5]);
+
+            ObjectNode perks = p.putObject("perks");
+            ObjectNode statPerks = perks.putObject("statPerks");
+            statPerks.put("defense", 5001).put("flex", 5008).put("offense", 5005);
+            ArrayNode styles = perks.putArray("styles");
+            ObjectNode primary = styles.addObject();
+            primary.put("description", "primaryStyle");
+            primary.put("style", 8100);
+            ArrayNode primarySelections = primary.putArray("selections");
+            for (int s = 0; s < 4; s++) {
+                primarySelections.addObject().put("perk", 8112 + s).put("var1", s).put("var2", 0).put("var3", 0);
+            }
+            ObjectNode sub = styles.addObject();
+            sub.put("description", "subStyle");
+            sub.put("style", 8300 + i);
+            ArrayNode subSelections = sub.putArray("selections");
+            for (int s = 0; s < 2; s++) {
+                subSelections.addObject().put("perk", 8304 + s).put("var1", s).put("var2", 0).put("var3", 0);
+            }
+
+            // 쓰지 않는 대용량 필드들
+            ObjectNode challenges = p.putObject("challenges");
+            for (int c = 0; c < 120; c++) challenges.put("challengeStat" + c, c * 1.5 + i);
+            ObjectNode missions = p.putObject("missions");
+            for (int m = 0; m < 12; m++) missions.put("playerScore" + m, m * i);
+            for (int f = 0; f < 80; f++) p.put("unusedStat" + f, f * 7 + i);
+            p.put("allInPings", 3).put("assistMePings", 2).put("enemyMissingPings", 5).put("onMyWayPings", 4);
+        }
+
+        ArrayNode teams = info.putArray("teams");
+        for (int t = 0; t < 2; t++) {
+            ObjectNode team = teams.addObject();
+            team.put("teamId", t == 0 ? 100 : 200);
+            team.put("win", t == 0);
+            ArrayNode bans = team.putArray("bans");
+            for (int b = 0; b < 5; b++) {
+                bans.addObject().put("championId", b == 4 ? -1 : 100 + t * 10 + b).put("pickTurn", b + 1);
+            }
+            ObjectNode objectives = team.putObject("objectives");
+            String[] names = {"atakhan", "baron", "champion", "dragon", "horde", "inhibitor", "riftHerald", "tower"};
+            for (int o = 0; o < names.length; o++) {
+                objectives.putObject(names[o]).put("first", t == 0).put("kills", o + t);
+            }
+        }
+
+        return objectMapper.writeValueAsString(root);
+    }
+}